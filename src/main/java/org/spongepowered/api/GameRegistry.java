@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api;
 
+import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.data.type.Career;
 import org.spongepowered.api.data.value.ValueFactory;
@@ -41,6 +42,7 @@
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.api.registry.CatalogRegistryModule;
 import org.spongepowered.api.registry.CatalogTypeAlreadyRegisteredException;
+import org.spongepowered.api.registry.CatalogTypeIndex;
 import org.spongepowered.api.registry.RegistryModule;
 import org.spongepowered.api.registry.RegistryModuleAlreadyRegisteredException;
 import org.spongepowered.api.resourcepack.ResourcePack;
@@ -114,6 +116,23 @@ public interface GameRegistry {
      */
     <T extends CatalogType> Collection<T> getAllOf(Class<T> typeClass);
 
+    /**
+     * Gets the {@link CatalogTypeIndex} assigning dense ordinals to the
+     * registered {@link CatalogType}s of the requested class.
+     *
+     * <p>Lookups through the index are array accesses and its
+     * {@link CatalogTypeIndex#getAll() list of types} is not copied, which
+     * makes it preferable to {@link #getType(Class, String)} and
+     * {@link #getAllOf(Class)} for repeated lookups.</p>
+     *
+     * @param typeClass The class of {@link CatalogType}
+     * @param <T> The type of {@link CatalogType}
+     * @return The index of the requested catalog type
+     * @throws IllegalArgumentException If the class is not a registered
+     *     catalog class
+     */
+    <T extends CatalogType> CatalogTypeIndex<T> getIndex(Class<T> typeClass);
+
     /**
      * Gets a collection of all available found specific types of
      * {@link CatalogType} requested.
@@ -272,6 +291,15 @@ <T extends CatalogType> GameRegistry registerModule(Class<T> catalogClass, Catal
      */
     Optional<BlockStatistic> getBlockStatistic(StatisticType statType, BlockType blockType);
 
+    /**
+     * Gets the {@link BlockState} with the given
+     * {@link BlockState#getOrdinal() ordinal}.
+     *
+     * @param ordinal The ordinal of the block state
+     * @return The block state, if found
+     */
+    Optional<BlockState> getBlockState(int ordinal);
+
     /**
      * Gets the {@link Rotation} with the provided degrees.
      *
@@ -95,6 +95,21 @@ static MatcherBuilder matcher(BlockType type) {
      */
     BlockType getType();
 
+    /**
+     * Gets the ordinal of this {@link BlockState}.
+     *
+     * <p>Ordinals are dense integer ids of all block states, starting at
+     * {@code 0}, such that the block states of one {@link BlockType} occupy a
+     * contiguous range. This allows block states to be stored in primitive
+     * arrays and their transitions to be looked up in a
+     * {@link BlockStateTransitionTable}. Ordinals are only stable for the
+     * lifetime of the game and must not be persisted.</p>
+     *
+     * @return The ordinal of this block state
+     * @see org.spongepowered.api.GameRegistry#getBlockState(int)
+     */
+    int getOrdinal();
+
     /**
      * Applies extended properties for the current @{link BlockType} if any to
      * the current {@link BlockState}. This usually is gathered from surrounding
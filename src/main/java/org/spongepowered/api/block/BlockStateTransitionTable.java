@@ -0,0 +1,266 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.block;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.block.trait.BlockTrait;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A precomputed table of all the transitions between the {@link BlockState}s
+ * of a {@link BlockType} which are caused by changing the value of one of its
+ * {@link BlockTrait}s.
+ *
+ * <p>Block states are referred to by their {@link BlockState#getOrdinal()
+ * ordinal}, traits by their index in {@link #getTraits()} and trait values by
+ * their index in {@link #getValues(int)}. Once these indices are resolved, the
+ * transitions equivalent to {@link BlockState#withTrait(BlockTrait, Object)}
+ * and cycling a trait are array lookups, which makes this table suited for
+ * tight loops operating on block states stored in primitive arrays.</p>
+ *
+ * @see BlockType#getTransitionTable()
+ */
+public final class BlockStateTransitionTable {
+
+    private static final Map<BlockType, BlockStateTransitionTable> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the {@link BlockStateTransitionTable} for the given
+     * {@link BlockType}. The table is computed on first request and cached
+     * afterwards.
+     *
+     * @param type The block type
+     * @return The transition table
+     */
+    public static BlockStateTransitionTable of(BlockType type) {
+        checkNotNull(type, "type");
+        return tables.computeIfAbsent(type, BlockStateTransitionTable::new);
+    }
+
+    private final BlockType type;
+    private final int firstOrdinal;
+    private final BlockState[] states;
+    private final ImmutableList<BlockTrait<?>> traits;
+    private final List<ImmutableList<?>> values;
+    // Per trait, the index of the value of every state
+    private final int[][] valueIndices;
+    // Per trait, the ordinal of the state for every state and value
+    private final int[][] transitions;
+
+    private BlockStateTransitionTable(BlockType type) {
+        this.type = type;
+        final List<BlockState> allStates = ImmutableList.copyOf(type.getAllBlockStates());
+        checkState(!allStates.isEmpty(), "The block type %s has no block states", type.getId());
+        int first = Integer.MAX_VALUE;
+        for (BlockState state : allStates) {
+            first = Math.min(first, state.getOrdinal());
+        }
+        this.firstOrdinal = first;
+        this.states = new BlockState[allStates.size()];
+        for (BlockState state : allStates) {
+            final int index = state.getOrdinal() - first;
+            checkState(index < this.states.length && this.states[index] == null,
+                    "The ordinals of the block states of %s are not contiguous", type.getId());
+            this.states[index] = state;
+        }
+        this.traits = ImmutableList.copyOf(type.getTraits());
+        final ImmutableList.Builder<ImmutableList<?>> values = ImmutableList.builder();
+        this.valueIndices = new int[this.traits.size()][];
+        this.transitions = new int[this.traits.size()][];
+        for (int traitIndex = 0; traitIndex < this.traits.size(); traitIndex++) {
+            final BlockTrait<?> trait = this.traits.get(traitIndex);
+            final ImmutableList<?> traitValues = ImmutableList.copyOf(trait.getPossibleValues());
+            values.add(traitValues);
+            final int[] valueIndices = this.valueIndices[traitIndex] = new int[this.states.length];
+            final int[] transitions = this.transitions[traitIndex] = new int[this.states.length * traitValues.size()];
+            for (int stateIndex = 0; stateIndex < this.states.length; stateIndex++) {
+                final BlockState state = this.states[stateIndex];
+                valueIndices[stateIndex] = traitValues.indexOf(state.getTraitMap().get(trait));
+                for (int valueIndex = 0; valueIndex < traitValues.size(); valueIndex++) {
+                    transitions[stateIndex * traitValues.size() + valueIndex] = state.withTrait(trait, traitValues.get(valueIndex))
+                            .map(BlockState::getOrdinal)
+                            .orElse(state.getOrdinal());
+                }
+            }
+        }
+        this.values = values.build();
+    }
+
+    /**
+     * Gets the {@link BlockType} of this table.
+     *
+     * @return The block type
+     */
+    public BlockType getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the lowest {@link BlockState#getOrdinal() ordinal} of the
+     * {@link BlockState}s of the {@link BlockType}. The ordinals of the block
+     * states of a type form a contiguous range, starting at this ordinal.
+     *
+     * @return The lowest ordinal
+     */
+    public int getFirstOrdinal() {
+        return this.firstOrdinal;
+    }
+
+    /**
+     * Gets the number of {@link BlockState}s of the {@link BlockType}.
+     *
+     * @return The number of block states
+     */
+    public int getStateCount() {
+        return this.states.length;
+    }
+
+    /**
+     * Gets whether the {@link BlockState} with the given ordinal belongs to
+     * the {@link BlockType} of this table.
+     *
+     * @param ordinal The ordinal of the block state
+     * @return True if the block state belongs to the block type
+     */
+    public boolean contains(int ordinal) {
+        return ordinal >= this.firstOrdinal && ordinal - this.firstOrdinal < this.states.length;
+    }
+
+    /**
+     * Gets the {@link BlockState} with the given ordinal.
+     *
+     * @param ordinal The ordinal of the block state
+     * @return The block state
+     * @throws IllegalArgumentException If the block state does not belong to
+     *     the block type of this table
+     */
+    public BlockState getState(int ordinal) {
+        return this.states[localIndex(ordinal)];
+    }
+
+    /**
+     * Gets the {@link BlockTrait}s of the {@link BlockType}, in the order of
+     * their trait indices.
+     *
+     * @return The block traits
+     */
+    public List<BlockTrait<?>> getTraits() {
+        return this.traits;
+    }
+
+    /**
+     * Gets the index of the given {@link BlockTrait}.
+     *
+     * @param trait The block trait
+     * @return The index of the trait, or {@code -1} if it does not belong to
+     *     the block type of this table
+     */
+    public int getTraitIndex(BlockTrait<?> trait) {
+        return this.traits.indexOf(checkNotNull(trait, "trait"));
+    }
+
+    /**
+     * Gets the possible values of the {@link BlockTrait} with the given
+     * index, in the order of their value indices.
+     *
+     * @param traitIndex The index of the trait
+     * @return The possible values
+     */
+    public List<?> getValues(int traitIndex) {
+        return this.values.get(checkElementIndex(traitIndex, this.traits.size(), "traitIndex"));
+    }
+
+    /**
+     * Gets the index of the given value of the {@link BlockTrait} with the
+     * given index.
+     *
+     * @param traitIndex The index of the trait
+     * @param value The value
+     * @return The index of the value, or {@code -1} if it is not a possible
+     *     value of the trait
+     */
+    public int getValueIndex(int traitIndex, Object value) {
+        return getValues(traitIndex).indexOf(checkNotNull(value, "value"));
+    }
+
+    /**
+     * Gets the index of the value the {@link BlockState} with the given
+     * ordinal has for the {@link BlockTrait} with the given index.
+     *
+     * @param ordinal The ordinal of the block state
+     * @param traitIndex The index of the trait
+     * @return The index of the value
+     */
+    public int getValueIndexOf(int ordinal, int traitIndex) {
+        final int stateIndex = localIndex(ordinal);
+        return this.valueIndices[checkElementIndex(traitIndex, this.traits.size(), "traitIndex")][stateIndex];
+    }
+
+    /**
+     * Gets the ordinal of the {@link BlockState} which results from changing
+     * the value of the {@link BlockTrait} with the given index of the block
+     * state with the given ordinal to the value with the given index.
+     *
+     * @param ordinal The ordinal of the block state
+     * @param traitIndex The index of the trait
+     * @param valueIndex The index of the value
+     * @return The ordinal of the resulting block state
+     * @see BlockState#withTrait(BlockTrait, Object)
+     */
+    public int with(int ordinal, int traitIndex, int valueIndex) {
+        final int stateIndex = localIndex(ordinal);
+        final int valueCount = getValues(traitIndex).size();
+        return this.transitions[traitIndex][stateIndex * valueCount + checkElementIndex(valueIndex, valueCount, "valueIndex")];
+    }
+
+    /**
+     * Gets the ordinal of the {@link BlockState} which results from changing
+     * the value of the {@link BlockTrait} with the given index of the block
+     * state with the given ordinal to the next possible value, starting over
+     * with the first value after the last one.
+     *
+     * @param ordinal The ordinal of the block state
+     * @param traitIndex The index of the trait
+     * @return The ordinal of the resulting block state
+     */
+    public int cycle(int ordinal, int traitIndex) {
+        final int valueCount = getValues(traitIndex).size();
+        return with(ordinal, traitIndex, (getValueIndexOf(ordinal, traitIndex) + 1) % valueCount);
+    }
+
+    private int localIndex(int ordinal) {
+        checkArgument(contains(ordinal), "The block state %s does not belong to %s", ordinal, this.type.getId());
+        return ordinal - this.firstOrdinal;
+    }
+
+}
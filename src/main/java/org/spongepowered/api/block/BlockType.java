@@ -72,6 +72,16 @@ public interface BlockType extends CatalogType, Translatable, PropertyHolder {
      */
     Collection<BlockState> getAllBlockStates();
 
+    /**
+     * Gets the {@link BlockStateTransitionTable} holding the precomputed
+     * transitions between all {@link BlockState}s of this block type.
+     *
+     * @return The transition table
+     */
+    default BlockStateTransitionTable getTransitionTable() {
+        return BlockStateTransitionTable.of(this);
+    }
+
     /**
      * Return the {@link ItemType} that represents this block.
      * @return The item type or {@link Optional#empty()} otherwise
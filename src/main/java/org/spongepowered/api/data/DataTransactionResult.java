@@ -45,15 +45,24 @@
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 /**
  * Represents a transaction taking place where a {@link DataHolder} is
  * accepting {@link DataManipulator}s.
  */
 public final class DataTransactionResult {
 
-    private static final DataTransactionResult SUCCESS_NODATA = builder().result(Type.SUCCESS).build();
-    private static final DataTransactionResult FAIL_NODATA = builder().result(Type.FAILURE).build();
+    private static final DataTransactionResult[] NO_DATA_RESULTS = new DataTransactionResult[Type.values().length];
+
+    static {
+        for (Type type : Type.values()) {
+            NO_DATA_RESULTS[type.ordinal()] = new DataTransactionResult(type);
+        }
+    }
 
+    private static final DataTransactionResult SUCCESS_NODATA = NO_DATA_RESULTS[Type.SUCCESS.ordinal()];
+    private static final DataTransactionResult FAIL_NODATA = NO_DATA_RESULTS[Type.FAILURE.ordinal()];
 
     /**
      * Gets a new {@link Builder} to build a new
@@ -78,6 +87,21 @@ public static DataTransactionResult successNoData() {
         return SUCCESS_NODATA;
     }
 
+    /**
+     * Gets the {@link DataTransactionResult} with no data successfully added,
+     * removed, or rejected, and with the provided {@link Type}.
+     *
+     * <p>The returned results are cached, no allocation happens when calling
+     * this method. Implementations should return these results whenever the
+     * caller only asked for the type of the result.</p>
+     *
+     * @param type The type of the result
+     * @return A clean and empty data transaction with the given type
+     */
+    public static DataTransactionResult noDataResult(Type type) {
+        return NO_DATA_RESULTS[checkNotNull(type, "type").ordinal()];
+    }
+
     /**
      * Creates a new {@link DataTransactionResult} with the provided
      * {@link ImmutableValue} being the successful addition. The result type is
@@ -249,27 +273,28 @@ public enum Type {
     }
 
     final Type type;
-    private final ImmutableList<ImmutableValue<?>> rejected;
-    private final ImmutableList<ImmutableValue<?>> replaced;
-    private final ImmutableList<ImmutableValue<?>> success;
+    // The lists handed over by the builder, which are never modified after
+    // the handover. They are only copied into immutable lists on first access
+    // as most callers never look at the values of a result.
+    private final List<ImmutableValue<?>> rejectedValues;
+    private final List<ImmutableValue<?>> replacedValues;
+    private final List<ImmutableValue<?>> successValues;
+    @Nullable private ImmutableList<ImmutableValue<?>> rejected;
+    @Nullable private ImmutableList<ImmutableValue<?>> replaced;
+    @Nullable private ImmutableList<ImmutableValue<?>> success;
+
+    private DataTransactionResult(final Type type) {
+        this.type = type;
+        this.rejectedValues = ImmutableList.of();
+        this.replacedValues = ImmutableList.of();
+        this.successValues = ImmutableList.of();
+    }
 
     DataTransactionResult(final Builder builder) {
         this.type = builder.resultType;
-        if (builder.rejected != null) {
-            this.rejected = ImmutableList.copyOf(builder.rejected);
-        } else {
-            this.rejected = ImmutableList.of();
-        }
-        if (builder.replaced != null) {
-            this.replaced = ImmutableList.copyOf(builder.replaced);
-        } else {
-            this.replaced = ImmutableList.of();
-        }
-        if (builder.successful != null) {
-            this.success = ImmutableList.copyOf(builder.successful);
-        } else {
-            this.success = ImmutableList.of();
-        }
+        this.rejectedValues = builder.rejected == null ? ImmutableList.of() : builder.rejected;
+        this.replacedValues = builder.replaced == null ? ImmutableList.of() : builder.replaced;
+        this.successValues = builder.successful == null ? ImmutableList.of() : builder.successful;
     }
 
 
@@ -298,6 +323,9 @@ public boolean isSuccessful() {
      * @return An immutable list of the values successfully offered
      */
     public List<ImmutableValue<?>> getSuccessfulData() {
+        if (this.success == null) {
+            this.success = ImmutableList.copyOf(this.successValues);
+        }
         return this.success;
     }
 
@@ -309,6 +337,9 @@ public List<ImmutableValue<?>> getSuccessfulData() {
      * @return Any data that was rejected from the operation
      */
     public List<ImmutableValue<?>> getRejectedData() {
+        if (this.rejected == null) {
+            this.rejected = ImmutableList.copyOf(this.rejectedValues);
+        }
         return this.rejected;
     }
 
@@ -319,6 +350,9 @@ public List<ImmutableValue<?>> getRejectedData() {
      * @return Any data that was replaced
      */
     public List<ImmutableValue<?>> getReplacedData() {
+        if (this.replaced == null) {
+            this.replaced = ImmutableList.copyOf(this.replacedValues);
+        }
         return this.replaced;
     }
 
@@ -331,7 +365,7 @@ public List<ImmutableValue<?>> getReplacedData() {
      */
     public void ifSuccessful(Consumer<List<ImmutableValue<?>>> consumer) {
         if (isSuccessful()) {
-            consumer.accept(this.success);
+            consumer.accept(getSuccessfulData());
         }
     }
 
@@ -367,9 +401,9 @@ public <E extends Exception> void ifNotSuccessful(Supplier<E> supplier) throws E
     public String toString() {
         return MoreObjects.toStringHelper(this)
                 .add("resultType", this.type)
-                .add("rejectedData", this.rejected)
-                .add("replacedData", this.replaced)
-                .add("successfulData", this.success)
+                .add("rejectedData", this.rejectedValues)
+                .add("replacedData", this.replacedValues)
+                .add("successfulData", this.successValues)
                 .toString();
     }
 
@@ -383,14 +417,14 @@ public boolean equals(Object o) {
         }
         DataTransactionResult that = (DataTransactionResult) o;
         return this.type == that.type
-               && Objects.equal(this.rejected, that.rejected)
-               && Objects.equal(this.replaced, that.replaced)
-               && Objects.equal(this.success, that.success);
+               && Objects.equal(this.rejectedValues, that.rejectedValues)
+               && Objects.equal(this.replacedValues, that.replacedValues)
+               && Objects.equal(this.successValues, that.successValues);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.type, this.rejected, this.replaced, this.success);
+        return Objects.hashCode(this.type, this.rejectedValues, this.replacedValues, this.successValues);
     }
 
     /**
@@ -404,6 +438,9 @@ public static final class Builder implements ResettableBuilder<DataTransactionRe
         List<ImmutableValue<?>> replaced;
         List<ImmutableValue<?>> successful;
         Type resultType;
+        // Whether the lists were handed over to a built result, in which case
+        // they have to be copied before they are modified again
+        private boolean shared;
 
         Builder() {
         }
@@ -433,6 +470,7 @@ public Builder result(final Type type) {
          * @return This builder, for chaining
          */
         public Builder replace(final ImmutableValue<?> value) {
+            unshare();
             if (this.replaced == null) {
                 this.replaced = Lists.newArrayList();
             }
@@ -470,6 +508,7 @@ public Builder replace(final Iterable<ImmutableValue<?>> values) {
          * @return This builder, for chaining
          */
         public Builder reject(final ImmutableValue<?> value) {
+            unshare();
             if (this.rejected == null) {
                 this.rejected = Lists.newArrayList();
             }
@@ -507,6 +546,7 @@ public Builder reject(final Iterable<ImmutableValue<?>> values) {
          * @return This builder, for chaining
          */
         public Builder success(final ImmutableValue<?> value) {
+            unshare();
             if (this.successful == null) {
                 this.successful = Lists.newArrayList();
             }
@@ -688,6 +728,7 @@ public Builder absorbResult(final DataTransactionResult result) {
             this.replaced = newReplaced;
             this.rejected = newRejected;
             this.successful = newSuccessful;
+            this.shared = false;
             return this;
         }
 
@@ -701,15 +742,33 @@ public Builder absorbResult(final DataTransactionResult result) {
          */
         public DataTransactionResult build() {
             checkState(this.resultType != null);
+            if (isEmpty(this.rejected) && isEmpty(this.replaced) && isEmpty(this.successful)) {
+                return noDataResult(this.resultType);
+            }
+            this.shared = true;
             return new DataTransactionResult(this);
         }
 
+        private static boolean isEmpty(@Nullable List<ImmutableValue<?>> values) {
+            return values == null || values.isEmpty();
+        }
+
+        private void unshare() {
+            if (this.shared) {
+                this.rejected = this.rejected == null ? null : new ArrayList<>(this.rejected);
+                this.replaced = this.replaced == null ? null : new ArrayList<>(this.replaced);
+                this.successful = this.successful == null ? null : new ArrayList<>(this.successful);
+                this.shared = false;
+            }
+        }
+
         @Override
         public Builder from(DataTransactionResult value) {
             this.resultType = value.type;
             this.rejected = new ArrayList<>(value.getRejectedData());
             this.replaced = new ArrayList<>(value.getReplacedData());
             this.successful = new ArrayList<>(value.getSuccessfulData());
+            this.shared = false;
             return this;
         }
 
@@ -719,6 +778,7 @@ public Builder reset() {
             this.replaced = null;
             this.successful = null;
             this.resultType = null;
+            this.shared = false;
             return this;
         }
 
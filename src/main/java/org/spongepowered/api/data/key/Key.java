@@ -92,6 +92,22 @@
      */
     DataQuery getQuery();
 
+    /**
+     * Gets the ordinal of this {@link Key}.
+     *
+     * <p>Ordinals start at {@code 0} and are assigned to keys in the order
+     * in which they are created, that is built, so that all keys together
+     * occupy a dense range of integers. This allows {@link ValueContainer}s
+     * to store their values in arrays indexed by key ordinal rather than in
+     * maps. The ordinal is the same as the ordinal of the key in the
+     * {@link org.spongepowered.api.registry.CatalogTypeIndex} of keys.
+     * Ordinals are only stable for the lifetime of the game and must not be
+     * persisted.</p>
+     *
+     * @return The ordinal of this key
+     */
+    int getOrdinal();
+
     /**
      * Register an event listener which listens to the value the key accesses
      * changing.
@@ -155,7 +171,8 @@
          * Builds a new {@link Key}, provided that the
          * {@link #type(TypeToken)}, {@link #id(String)},
          * {@link #name(String)}, and {@link #query(DataQuery)}
-         * are set.
+         * are set. The built key is assigned the next free
+         * {@link Key#getOrdinal() ordinal}.
          *
          * @return The generated Key
          */
@@ -0,0 +1,185 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.property;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.Property;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link PropertyStore} which memoizes the properties of another store per
+ * {@link BlockState}, given that the other store is
+ * {@link PropertyStore#isBlockStatePure() block state pure}.
+ *
+ * <p>Lookups for {@link Location}s and {@link BlockState}s are served from
+ * the cache, lookups relative to a {@link Direction} and lookups for other
+ * {@link PropertyHolder}s always bypass it. If the other store is not block
+ * state pure, every lookup is passed through.</p>
+ *
+ * <p>The cache is a flat array indexed by {@link BlockState#getOrdinal()},
+ * which grows on demand to fit the highest requested ordinal. A property
+ * which was computed while the store was invalidated is returned to its
+ * caller, but not cached.</p>
+ *
+ * @param <T> The type of property that this store can handle
+ */
+public final class CachingPropertyStore<T extends Property<?, ?>> implements PropertyStore<T> {
+
+    private final PropertyStore<T> delegate;
+    private final boolean cached;
+    private volatile AtomicReferenceArray<Optional<T>> cache = new AtomicReferenceArray<>(0);
+    // Incremented by every invalidation, guarded by this
+    private volatile int generation;
+
+    /**
+     * Creates a new caching store for the given {@link PropertyStore}.
+     *
+     * @param delegate The store to cache the properties of
+     */
+    public CachingPropertyStore(PropertyStore<T> delegate) {
+        this.delegate = checkNotNull(delegate, "delegate");
+        this.cached = delegate.isBlockStatePure();
+    }
+
+    /**
+     * Gets the {@link PropertyStore} whose properties are cached.
+     *
+     * @return The cached store
+     */
+    public PropertyStore<T> getDelegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public Optional<T> getFor(PropertyHolder propertyHolder) {
+        if (this.cached && propertyHolder instanceof BlockState) {
+            final BlockState blockState = (BlockState) propertyHolder;
+            final Optional<T> property = getCached(blockState.getOrdinal());
+            if (property != null) {
+                return property;
+            }
+            final int generation = this.generation;
+            return putCached(blockState.getOrdinal(), generation, this.delegate.getFor(blockState));
+        }
+        return this.delegate.getFor(propertyHolder);
+    }
+
+    @Override
+    public Optional<T> getFor(Location<World> location) {
+        if (this.cached) {
+            final BlockState blockState = location.getBlock();
+            final Optional<T> property = getCached(blockState.getOrdinal());
+            if (property != null) {
+                return property;
+            }
+            final int generation = this.generation;
+            return putCached(blockState.getOrdinal(), generation, this.delegate.getFor(location));
+        }
+        return this.delegate.getFor(location);
+    }
+
+    @Override
+    public Optional<T> getFor(Location<World> location, Direction direction) {
+        return this.delegate.getFor(location, direction);
+    }
+
+    @Override
+    public boolean isBlockStatePure() {
+        return this.cached;
+    }
+
+    @Override
+    public int getPriority() {
+        return this.delegate.getPriority();
+    }
+
+    /**
+     * Discards the cached property of the given {@link BlockState}, the next
+     * lookup for it will be computed again.
+     *
+     * @param blockState The block state
+     */
+    public void invalidate(BlockState blockState) {
+        final int ordinal = checkNotNull(blockState, "blockState").getOrdinal();
+        // Hold the lock, so a concurrent grow can't copy the stale value
+        synchronized (this) {
+            this.generation++;
+            final AtomicReferenceArray<Optional<T>> cache = this.cache;
+            if (ordinal < cache.length()) {
+                cache.set(ordinal, null);
+            }
+        }
+    }
+
+    /**
+     * Discards all cached properties.
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            this.generation++;
+            this.cache = new AtomicReferenceArray<>(0);
+        }
+    }
+
+    @Nullable
+    private Optional<T> getCached(int ordinal) {
+        final AtomicReferenceArray<Optional<T>> cache = this.cache;
+        return ordinal < cache.length() ? cache.get(ordinal) : null;
+    }
+
+    private Optional<T> putCached(int ordinal, int generation, Optional<T> property) {
+        synchronized (this) {
+            if (generation != this.generation) {
+                // Invalidated while the property was computed, it may be stale
+                return property;
+            }
+            AtomicReferenceArray<Optional<T>> cache = this.cache;
+            if (ordinal >= cache.length()) {
+                final AtomicReferenceArray<Optional<T>> grown =
+                        new AtomicReferenceArray<>(Math.max(ordinal + 1, cache.length() * 2));
+                for (int i = 0; i < cache.length(); i++) {
+                    grown.set(i, cache.get(i));
+                }
+                this.cache = cache = grown;
+            }
+            final Optional<T> existing = cache.get(ordinal);
+            if (existing != null) {
+                return existing;
+            }
+            cache.set(ordinal, property);
+            return property;
+        }
+    }
+
+}
@@ -36,6 +36,10 @@ public interface PropertyRegistry {
      * {@link PropertyStore} can be registered per {@link Property}. Multiple
      * registrations will result in exceptions being thrown.
      *
+     * <p>Stores which are {@link PropertyStore#isBlockStatePure() block state
+     * pure} are wrapped in a {@link CachingPropertyStore}, which is then
+     * returned by {@link #getStore(Class)}.</p>
+     *
      * @param propertyClass The property class
      * @param propertyStore The property store
      * @param <T> The type of property
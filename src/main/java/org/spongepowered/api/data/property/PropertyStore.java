@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.data.property;
 
+import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.data.Property;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.Location;
@@ -72,6 +73,27 @@
      */
     Optional<T> getFor(Location<World> location, Direction direction);
 
+    /**
+     * Gets whether the properties provided by this store for a block only
+     * depend on the {@link BlockState} of that block, and not on its
+     * {@link Location} or surroundings. Properties such as the hardness or
+     * the solidity of a block usually are, while properties such as the
+     * light level or the temperature usually are not.
+     *
+     * <p>The results of a block state pure store can be memoized per
+     * {@link BlockState} by a {@link CachingPropertyStore}, in which case
+     * {@link #getFor(Location)} is only called once per block state and
+     * {@link #getFor(PropertyHolder)} may be called with the block state
+     * itself.</p>
+     *
+     * <p>Defaults to {@code false}.</p>
+     *
+     * @return True if the properties only depend on the block state
+     */
+    default boolean isBlockStatePure() {
+        return false;
+    }
+
     /**
      * Gets the priority of which this {@link PropertyStore} is used for
      * handling a particular {@link PropertyHolder}. This is useful for
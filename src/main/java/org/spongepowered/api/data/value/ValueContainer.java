@@ -53,6 +53,12 @@
  * {@link DataHolder}s, it is recommended to knowingly understand the
  * fundamental differences between them.</p>
  *
+ * <p>For values of primitive types, the {@link #getInt(Key, int)},
+ * {@link #getDouble(Key, double)} and {@link #getBoolean(Key, boolean)}
+ * accessors avoid wrapping the value in an {@link Optional} and, if the
+ * implementation stores such values by {@link Key#getOrdinal() key ordinal},
+ * boxing it altogether.</p>
+ *
  * @param <C> The type of container for fluency
  */
 public interface ValueContainer<C extends ValueContainer<C>> {
@@ -125,6 +131,48 @@ default <E> E getOrElse(Key<? extends BaseValue<E>> key, E defaultValue) {
         return get(key).orElse(checkNotNull(defaultValue, "Provided a null default value for 'getOrElse(Key, null)'!"));
     }
 
+    /**
+     * Gets the underlying {@code int} value linked to the provided
+     * {@link Key} if available. If the value is not set or the {@link Key} is
+     * not supported, the given {@code defaultValue} is returned.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not available
+     * @return The value, or default if not available
+     */
+    default int getInt(Key<? extends BaseValue<Integer>> key, int defaultValue) {
+        final Optional<Integer> value = get(key);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Gets the underlying {@code double} value linked to the provided
+     * {@link Key} if available. If the value is not set or the {@link Key} is
+     * not supported, the given {@code defaultValue} is returned.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not available
+     * @return The value, or default if not available
+     */
+    default double getDouble(Key<? extends BaseValue<Double>> key, double defaultValue) {
+        final Optional<Double> value = get(key);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Gets the underlying {@code boolean} value linked to the provided
+     * {@link Key} if available. If the value is not set or the {@link Key} is
+     * not supported, the given {@code defaultValue} is returned.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not available
+     * @return The value, or default if not available
+     */
+    default boolean getBoolean(Key<? extends BaseValue<Boolean>> key, boolean defaultValue) {
+        final Optional<Boolean> value = get(key);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
     /**
      * Gets the {@link BaseValue} for the given {@link Key}.
      *
@@ -277,6 +277,23 @@ default DataTransactionResult offer(Iterable<H> valueContainers, MergeFunction f
         return builder.build();
     }
 
+    /**
+     * Offers the given {@code value} as defined by the provided {@link Key}
+     * like {@link #offer(Key, Object)}, but only returns the
+     * {@link DataTransactionResult.Type} of the transaction. This allows the
+     * implementation to skip creating snapshots of the successful, rejected
+     * and replaced {@link BaseValue}s, and should be preferred whenever the
+     * caller does not need them.
+     *
+     * @param key The key to the value to set
+     * @param value The value to set
+     * @param <E> The type of value
+     * @return The type of the transaction result
+     */
+    default <E> DataTransactionResult.Type offerFast(Key<? extends BaseValue<E>> key, E value) {
+        return offer(key, value).getType();
+    }
+
     /**
      * Offers the given {@code value} as defined by the provided {@link Key}
      * such that a {@link DataTransactionResult} is returned for any
@@ -401,6 +418,38 @@ default DataTransactionResult remove(BaseValue<?> value) {
      */
     DataTransactionResult remove(Key<?> key);
 
+    /**
+     * Attempts to remove the data associated with the provided {@link Key}
+     * like {@link #remove(Key)}, but only returns the
+     * {@link DataTransactionResult.Type} of the transaction. This allows the
+     * implementation to skip creating snapshots of the removed
+     * {@link BaseValue}s, and should be preferred whenever the caller does not
+     * need them.
+     *
+     * @param key The key of the data
+     * @return The type of the transaction result
+     */
+    default DataTransactionResult.Type removeFast(Key<?> key) {
+        return remove(key).getType();
+    }
+
+    /**
+     * Creates a new {@link Batch} which stages changes to the values of this
+     * {@link CompositeValueStore} and applies them all at once.
+     *
+     * <p>Unlike performing every change through {@link #offer(Key, Object)}
+     * and {@link #remove(Key)}, a batch produces a single merged
+     * {@link DataTransactionResult} and, if this store is a
+     * {@link org.spongepowered.api.data.DataHolder}, throws a single
+     * {@link org.spongepowered.api.event.data.ChangeDataHolderEvent.ValueChange}
+     * for all of its changes.</p>
+     *
+     * @return The new batch
+     */
+    default Batch batch() {
+        return new SequentialValueBatch(this);
+    }
+
     /**
      * Attempts to "revert" a {@link DataTransactionResult} such that any
      * of the {@link DataTransactionResult#getReplacedData()} are offered
@@ -449,4 +498,71 @@ default DataTransactionResult copyFrom(S that) {
      */
     Collection<H> getContainers();
 
+    /**
+     * A set of changes to the values of a {@link CompositeValueStore} which
+     * are staged first and then applied together.
+     *
+     * <p>Staging a change for a {@link Key} which already has a staged change
+     * replaces the previously staged change. Changes are applied in the order
+     * in which their keys were first staged. A batch can only be committed
+     * once.</p>
+     */
+    interface Batch {
+
+        /**
+         * Stages offering the given value for the given {@link Key}.
+         *
+         * @param key The key to the value to set
+         * @param value The value to set
+         * @param <E> The type of value
+         * @return This batch, for chaining
+         * @see CompositeValueStore#offer(Key, Object)
+         */
+        <E> Batch offer(Key<? extends BaseValue<E>> key, E value);
+
+        /**
+         * Stages offering the given {@link BaseValue}.
+         *
+         * @param value The value to set
+         * @param <E> The type of the element wrapped by the value
+         * @return This batch, for chaining
+         * @see CompositeValueStore#offer(BaseValue)
+         */
+        default <E> Batch offer(BaseValue<E> value) {
+            return offer(value.getKey(), value.get());
+        }
+
+        /**
+         * Stages removing the data associated with the given {@link Key}.
+         *
+         * @param key The key of the data
+         * @return This batch, for chaining
+         * @see CompositeValueStore#remove(Key)
+         */
+        Batch remove(Key<?> key);
+
+        /**
+         * Applies all staged changes to the {@link CompositeValueStore} and
+         * returns the merged {@link DataTransactionResult} of all changes.
+         *
+         * @return The merged transaction result
+         * @throws IllegalStateException If this batch was already committed
+         */
+        DataTransactionResult commit();
+
+        /**
+         * Applies all staged changes to the {@link CompositeValueStore} like
+         * {@link #commit()}, but without constructing a
+         * {@link DataTransactionResult}. This should be preferred whenever
+         * the caller does not need the replaced or rejected values.
+         *
+         * @return True if all changes were successful
+         * @throws IllegalStateException If this batch was already committed
+         */
+        default boolean apply() {
+            return commit().isSuccessful();
+        }
+
+    }
+
 }
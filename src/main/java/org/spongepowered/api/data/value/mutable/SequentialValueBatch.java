@@ -0,0 +1,119 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The fallback {@link CompositeValueStore.Batch} which applies every staged
+ * change through the individual offer and remove methods of the store.
+ */
+final class SequentialValueBatch implements CompositeValueStore.Batch {
+
+    private final CompositeValueStore<?, ?> store;
+    private final Map<Key<?>, Change> changes = new LinkedHashMap<>();
+    private boolean committed;
+
+    SequentialValueBatch(CompositeValueStore<?, ?> store) {
+        this.store = checkNotNull(store, "store");
+    }
+
+    @Override
+    public <E> CompositeValueStore.Batch offer(Key<? extends BaseValue<E>> key, E value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        this.changes.put(key, new Change() {
+            @Override
+            public DataTransactionResult commit(CompositeValueStore<?, ?> store) {
+                return store.offer(key, value);
+            }
+
+            @Override
+            public DataTransactionResult.Type apply(CompositeValueStore<?, ?> store) {
+                return store.offerFast(key, value);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public CompositeValueStore.Batch remove(Key<?> key) {
+        checkNotNull(key, "key");
+        this.changes.put(key, new Change() {
+            @Override
+            public DataTransactionResult commit(CompositeValueStore<?, ?> store) {
+                return store.remove(key);
+            }
+
+            @Override
+            public DataTransactionResult.Type apply(CompositeValueStore<?, ?> store) {
+                return store.removeFast(key);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public DataTransactionResult commit() {
+        checkState(!this.committed, "This batch was already committed!");
+        this.committed = true;
+        if (this.changes.isEmpty()) {
+            return DataTransactionResult.successNoData();
+        }
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        for (Change change : this.changes.values()) {
+            builder.absorbResult(change.commit(this.store));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean apply() {
+        checkState(!this.committed, "This batch was already committed!");
+        this.committed = true;
+        boolean successful = true;
+        for (Change change : this.changes.values()) {
+            successful &= change.apply(this.store) == DataTransactionResult.Type.SUCCESS;
+        }
+        return successful;
+    }
+
+    private interface Change {
+
+        DataTransactionResult commit(CompositeValueStore<?, ?> store);
+
+        DataTransactionResult.Type apply(CompositeValueStore<?, ?> store);
+
+    }
+
+}
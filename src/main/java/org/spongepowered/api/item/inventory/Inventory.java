@@ -24,13 +24,19 @@
  */
 package org.spongepowered.api.item.inventory;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.spongepowered.api.Nameable;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.item.inventory.ChangeInventoryEvent;
 import org.spongepowered.api.event.item.inventory.InteractInventoryEvent;
 import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.query.Query;
 import org.spongepowered.api.item.inventory.query.QueryOperation;
 import org.spongepowered.api.item.inventory.query.QueryOperationTypes;
 import org.spongepowered.api.item.inventory.transaction.InventoryTransactionResult;
+import org.spongepowered.api.item.inventory.transaction.SlotTransaction;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.text.translation.Translation;
 import org.spongepowered.api.util.ResettableBuilder;
@@ -83,6 +89,22 @@ static Inventory.Builder builder() {
      */
     <T extends Inventory> Iterable<T> slots();
 
+    /**
+     * Returns an iterable view of all {@link Slot}s (leaf nodes) in this
+     * Inventory which contain a stack of the given {@link ItemType}.
+     *
+     * <p>Inventories which maintain a slot index per {@link ItemType} answer
+     * this with a lookup instead of testing every slot.</p>
+     *
+     * @param type The item type
+     * @param <T> expected inventory type, specified as generic to allow easy
+     *      pseudo-duck-typing
+     * @return an iterable view of the matching Slots
+     */
+    default <T extends Inventory> Iterable<T> slots(ItemType type) {
+        return query(QueryOperationTypes.ITEM_TYPE.of(type)).slots();
+    }
+
     /**
      * Return the first child inventory, effectively the same as
      * <code>Inventory::iterator().next()</code> but more convenient when we are
@@ -210,6 +232,68 @@ static Inventory.Builder builder() {
      */
     InventoryTransactionResult offer(ItemStack stack);
 
+    /**
+     * Moves up to the given number of items from this inventory into the
+     * target inventory, as if by repeatedly {@link #poll(int) polling} stacks
+     * from this inventory and {@link #offer(ItemStack) offering} them to the
+     * target.
+     *
+     * <p>Unlike polling and offering stack by stack, implementations compute
+     * the whole transfer in one pass over both inventories and fire a single
+     * {@link ChangeInventoryEvent.Transfer} for it. The returned result
+     * aggregates the {@link InventoryTransactionResult#getSlotTransactions()
+     * slot transactions} of all affected slots. If no items could be moved,
+     * because this inventory is empty or the target does not accept any of
+     * its items, the result is of type
+     * {@link InventoryTransactionResult.Type#FAILURE}.</p>
+     *
+     * @param target The inventory to move the items into
+     * @param limit The maximum number of items to move
+     * @return The aggregated transaction result
+     */
+    default InventoryTransactionResult transfer(Inventory target, int limit) {
+        checkNotNull(target, "target");
+        checkArgument(limit >= 0, "The limit may not be negative");
+        final InventoryTransactionResult.Builder result = InventoryTransactionResult.builder();
+        int remaining = limit;
+        for (Slot slot : this.<Slot>slots()) {
+            if (remaining == 0) {
+                break;
+            }
+            final ItemStack stack = slot.peek(remaining).orElse(null);
+            if (stack == null || stack.isEmpty()) {
+                continue;
+            }
+            final ItemStackSnapshot original = slot.peek().map(ItemStack::createSnapshot).orElse(ItemStackSnapshot.NONE);
+            final int offered = stack.getQuantity();
+            // The offered stack is reduced by the number of accepted items
+            target.offer(stack);
+            final int moved = offered - stack.getQuantity();
+            if (moved == 0) {
+                continue;
+            }
+            slot.poll(moved);
+            remaining -= moved;
+            result.transaction(new SlotTransaction(slot, original, slot.peek().map(ItemStack::createSnapshot).orElse(ItemStackSnapshot.NONE)));
+        }
+        return result.type(remaining == limit ? InventoryTransactionResult.Type.FAILURE : InventoryTransactionResult.Type.SUCCESS).build();
+    }
+
+    /**
+     * Moves up to the given number of items in the slots matching the given
+     * {@link Query} from this inventory into the target inventory.
+     *
+     * @param target The inventory to move the items into
+     * @param query The query selecting the slots to move the items from
+     * @param limit The maximum number of items to move
+     * @return The aggregated transaction result
+     * @see #transfer(Inventory, int)
+     */
+    default InventoryTransactionResult transfer(Inventory target, Query query, int limit) {
+        checkNotNull(query, "query");
+        return query.<Inventory>execute(this).transfer(target, limit);
+    }
+
     /**
      * Returns true if the entire stack can fit in this inventory.
      *
@@ -313,6 +397,9 @@ static Inventory.Builder builder() {
      * ItemType. This is equivalent to calling <code>!inv.query(stack)
      * .hasChildren();</code>
      *
+     * <p>Inventories which maintain a slot index per {@link ItemType} answer
+     * this with a lookup instead of testing every slot.</p>
+     *
      * @param type The type to search for
      * @return True if at least one stack in this list has the given type
      */
@@ -618,6 +705,19 @@ default <T extends Inventory> T queryAny(ItemStack... types) {
      */
     <T extends Inventory> T query(QueryOperation<?>... operations);
 
+    /**
+     * Query this inventory using the given compiled {@link Query}.
+     *
+     * @param <T> expected inventory type, specified as generic to allow easy
+     *      pseudo-duck-typing
+     * @param query The compiled query
+     * @return the query result
+     * @see Query#execute(Inventory)
+     */
+    default <T extends Inventory> T query(Query query) {
+        return query.execute(this);
+    }
+
     /**
      * Returns the {@link PluginContainer} who built this inventory.
      *
@@ -0,0 +1,147 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.inventory.query;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.util.ResettableBuilder;
+
+import java.util.List;
+
+/**
+ * A compiled {@linkplain Inventory#query(QueryOperation...) inventory query}
+ * that is built once and may be executed against any number of
+ * {@link Inventory inventories}.
+ *
+ * <p>Compiling a query resolves its {@link QueryOperation}s into a form the
+ * implementation can evaluate directly. In particular, queries consisting of
+ * {@link QueryOperationTypes#ITEM_TYPE} operations may be answered from the
+ * per item type slot indexes maintained by inventories, instead of testing
+ * every slot. Logical <code>OR</code> is applied between the operations, the
+ * same as for {@link Inventory#query(QueryOperation...)}.</p>
+ */
+public interface Query {
+
+    /**
+     * Creates a new {@link Builder} to build a {@link Query}.
+     *
+     * @return The new builder
+     */
+    static Builder builder() {
+        return Sponge.getRegistry().createBuilder(Builder.class);
+    }
+
+    /**
+     * Compiles a {@link Query} for the given {@link QueryOperation}s.
+     *
+     * @param operations The operations
+     * @return The compiled query
+     */
+    static Query of(QueryOperation<?>... operations) {
+        return builder().operations(operations).build();
+    }
+
+    /**
+     * Gets the {@link QueryOperation}s of this query.
+     *
+     * @return The query operations
+     */
+    List<QueryOperation<?>> getOperations();
+
+    /**
+     * Executes this query against the given {@link Inventory}. This is
+     * equivalent to calling {@link Inventory#query(QueryOperation...)} with
+     * the {@link #getOperations() operations} of this query.
+     *
+     * @param inventory The inventory to query
+     * @param <T> expected inventory type, specified as generic to allow easy
+     *      pseudo-duck-typing
+     * @return the query result
+     */
+    <T extends Inventory> T execute(Inventory inventory);
+
+    /**
+     * Gets whether the given {@link Inventory} contains any slot that matches
+     * this query. This is equivalent to checking whether the
+     * {@link #execute(Inventory) result} of this query has any slots, but
+     * does not need to construct it.
+     *
+     * @param inventory The inventory to test
+     * @return True if any slot matches
+     */
+    boolean matchesAny(Inventory inventory);
+
+    /**
+     * A builder for {@link Query queries}.
+     */
+    interface Builder extends ResettableBuilder<Query, Builder> {
+
+        /**
+         * Adds the given {@link QueryOperation} to the query.
+         *
+         * @param operation The operation
+         * @return This builder, for chaining
+         */
+        Builder operation(QueryOperation<?> operation);
+
+        /**
+         * Adds the given {@link QueryOperation}s to the query.
+         *
+         * @param operations The operations
+         * @return This builder, for chaining
+         */
+        default Builder operations(QueryOperation<?>... operations) {
+            for (QueryOperation<?> operation : operations) {
+                operation(operation);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a {@link QueryOperationTypes#ITEM_TYPE} operation for each of
+         * the given {@link ItemType}s to the query.
+         *
+         * @param types The item types
+         * @return This builder, for chaining
+         */
+        default Builder itemTypes(ItemType... types) {
+            for (ItemType type : types) {
+                operation(QueryOperationTypes.ITEM_TYPE.of(type));
+            }
+            return this;
+        }
+
+        /**
+         * Compiles the {@link Query}.
+         *
+         * @return The compiled query
+         * @throws IllegalStateException If no operation was added
+         */
+        Query build();
+
+    }
+
+}
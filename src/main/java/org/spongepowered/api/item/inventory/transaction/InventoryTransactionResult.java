@@ -28,6 +28,7 @@
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.util.ResettableBuilder;
@@ -113,11 +114,13 @@ public enum Type {
     final Type type;
     private final List<ItemStackSnapshot> rejected;
     private final List<ItemStackSnapshot> replaced;
+    private final List<SlotTransaction> transactions;
 
     InventoryTransactionResult(Builder builder) {
         this.type = checkNotNull(builder.resultType, "Result type");
         this.rejected = builder.rejected != null ? ImmutableList.copyOf(builder.rejected) : Collections.emptyList();
         this.replaced = builder.replaced != null ? ImmutableList.copyOf(builder.replaced) : Collections.emptyList();
+        this.transactions = builder.transactions != null ? ImmutableList.copyOf(builder.transactions) : Collections.emptyList();
     }
 
     /**
@@ -149,11 +152,24 @@ public Collection<ItemStackSnapshot> getReplacedItems() {
         return this.replaced;
     }
 
+    /**
+     * Gets the {@link SlotTransaction}s of all slots that were changed by the
+     * operation. Bulk operations, such as
+     * {@link Inventory#transfer(Inventory, int) transfers}, report the
+     * changes of all affected slots in a single result.
+     *
+     * @return The slot transactions of the operation
+     */
+    public List<SlotTransaction> getSlotTransactions() {
+        return this.transactions;
+    }
+
     public static final class Builder implements ResettableBuilder<InventoryTransactionResult, Builder> {
 
         @Nullable Type resultType;
         @Nullable List<ItemStackSnapshot> rejected;
         @Nullable List<ItemStackSnapshot> replaced;
+        @Nullable List<SlotTransaction> transactions;
 
         Builder() {}
 
@@ -206,6 +222,23 @@ public Builder replace(ItemStack... itemStacks) {
             return this;
         }
 
+        /**
+         * Adds the provided {@link SlotTransaction}s as changes performed by
+         * the operation.
+         *
+         * @param transactions The slot transactions
+         * @return This builder, for chaining
+         */
+        public Builder transaction(SlotTransaction... transactions) {
+            if (this.transactions == null) {
+                this.transactions = new ArrayList<>();
+            }
+            for (SlotTransaction transaction : transactions) {
+                this.transactions.add(checkNotNull(transaction, "transaction"));
+            }
+            return this;
+        }
+
         /**
          * Creates a new {@link InventoryTransactionResult}.
          *
@@ -222,6 +255,7 @@ public Builder from(InventoryTransactionResult value) {
             this.resultType = checkNotNull(value.type, "ResultType cannot be null!");
             this.replaced = new ArrayList<>(value.getReplacedItems());
             this.rejected = new ArrayList<>(value.getRejectedItems());
+            this.transactions = new ArrayList<>(value.getSlotTransactions());
             return this;
         }
 
@@ -230,6 +264,7 @@ public Builder reset() {
             this.resultType = null;
             this.rejected = null;
             this.replaced = null;
+            this.transactions = null;
             return this;
         }
 
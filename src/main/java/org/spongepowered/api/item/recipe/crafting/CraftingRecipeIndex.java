@@ -0,0 +1,313 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.recipe.crafting;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.crafting.CraftingGridInventory;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index over {@link CraftingRecipe}s, which narrows down the recipes that
+ * can match a {@link CraftingGridInventory} before testing them, intended to
+ * back {@link CraftingRecipeRegistry#findMatchingRecipe(CraftingGridInventory,
+ * World)}.
+ *
+ * <p>{@link ShapedCraftingRecipe}s are bucketed by their dimensions and by
+ * the item types of the first ingredient of their pattern, in both the
+ * regular and the mirrored orientation. {@link ShapelessCraftingRecipe}s are
+ * bucketed by their number of ingredients and by the item types of their
+ * first ingredient. Item types are provided by
+ * {@link Ingredient#getMatchingItemTypes()}; recipes whose relevant
+ * ingredients cannot name their item types, shaped recipes whose pattern has
+ * empty border rows or columns and all other kinds of recipes are always
+ * tested. Recipes are tested in the order they were added, the first valid
+ * recipe is returned.</p>
+ *
+ * <p>Additionally, the last recipe found for every grid is remembered and
+ * tested first on the next lookup for that grid. If it is still valid, only
+ * the candidates added before it are tested, so the result is still the
+ * first valid recipe. Lookups do not allocate.</p>
+ *
+ * <p>This index is not thread safe.</p>
+ */
+public final class CraftingRecipeIndex {
+
+    private final List<Entry> unindexed = new ArrayList<>();
+    private final Map<Long, Bucket> shaped = new HashMap<>();
+    private final Map<Integer, Bucket> shapeless = new HashMap<>();
+    private final Map<CraftingGridInventory, Entry> lastMatches = new WeakHashMap<>();
+    // The distinct item types of the grid of the current lookup
+    private final List<ItemType> gridTypes = new ArrayList<>();
+    private int size;
+    // Incremented for every lookup, to test each entry at most once
+    private int lookup;
+
+    private static long dimensions(int width, int height) {
+        return ((long) width << 32) | height;
+    }
+
+    private static boolean isEmpty(@Nullable ItemStack itemStack) {
+        return itemStack == null || itemStack.isEmpty();
+    }
+
+    /**
+     * Adds the given {@link CraftingRecipe} to this index.
+     *
+     * @param recipe The recipe
+     */
+    public void add(CraftingRecipe recipe) {
+        checkNotNull(recipe, "recipe");
+        final Entry entry = new Entry(this.size++, recipe);
+        if (recipe instanceof ShapedCraftingRecipe) {
+            addShaped(entry, (ShapedCraftingRecipe) recipe);
+        } else if (recipe instanceof ShapelessCraftingRecipe) {
+            addShapeless(entry, (ShapelessCraftingRecipe) recipe);
+        } else {
+            this.unindexed.add(entry);
+        }
+    }
+
+    private void addShaped(Entry entry, ShapedCraftingRecipe recipe) {
+        final int width = recipe.getWidth();
+        final int height = recipe.getHeight();
+        int first = -1;
+        int last = -1;
+        for (int x = 0; x < width; x++) {
+            if (recipe.getIngredient(x, 0) != Ingredient.NONE) {
+                first = first == -1 ? x : first;
+                last = x;
+            }
+        }
+        final boolean trimmed = first != -1;
+        boolean left = false;
+        boolean right = false;
+        boolean bottom = false;
+        for (int y = 0; y < height && trimmed; y++) {
+            left |= recipe.getIngredient(0, y) != Ingredient.NONE;
+            right |= recipe.getIngredient(width - 1, y) != Ingredient.NONE;
+        }
+        for (int x = 0; x < width && trimmed; x++) {
+            bottom |= recipe.getIngredient(x, height - 1) != Ingredient.NONE;
+        }
+        if (!trimmed || !left || !right || !bottom) {
+            this.unindexed.add(entry);
+            return;
+        }
+        final Bucket bucket = this.shaped.computeIfAbsent(dimensions(width, height), key -> new Bucket());
+        final Optional<Collection<ItemType>> firstTypes = recipe.getIngredient(first, 0).getMatchingItemTypes();
+        final Optional<Collection<ItemType>> mirroredTypes = recipe.getIngredient(last, 0).getMatchingItemTypes();
+        if (firstTypes.isPresent() && mirroredTypes.isPresent()) {
+            final Set<ItemType> types = new HashSet<>(firstTypes.get());
+            types.addAll(mirroredTypes.get());
+            bucket.add(entry, types);
+        } else {
+            bucket.addAny(entry);
+        }
+    }
+
+    private void addShapeless(Entry entry, ShapelessCraftingRecipe recipe) {
+        final List<Ingredient> ingredients = recipe.getIngredientPredicates();
+        if (ingredients.isEmpty()) {
+            this.unindexed.add(entry);
+            return;
+        }
+        final Bucket bucket = this.shapeless.computeIfAbsent(ingredients.size(), key -> new Bucket());
+        final Optional<Collection<ItemType>> types = ingredients.get(0).getMatchingItemTypes();
+        if (types.isPresent()) {
+            bucket.add(entry, types.get());
+        } else {
+            bucket.addAny(entry);
+        }
+    }
+
+    /**
+     * Gets the number of {@link CraftingRecipe}s in this index.
+     *
+     * @return The number of recipes
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Finds the first added {@link CraftingRecipe} which is
+     * {@link CraftingRecipe#isValid(CraftingGridInventory, World) valid} for
+     * the given grid.
+     *
+     * @param grid The crafting grid
+     * @param world The world the player is in
+     * @return The found recipe, or {@link Optional#empty()} if no recipe was
+     *         found for this configuration
+     */
+    public Optional<CraftingRecipe> findMatchingRecipe(CraftingGridInventory grid, World world) {
+        checkNotNull(grid, "grid");
+        checkNotNull(world, "world");
+        this.lookup++;
+        Entry match = this.lastMatches.get(grid);
+        if (match != null) {
+            match.lookup = this.lookup;
+            if (!match.recipe.isValid(grid, world)) {
+                match = null;
+            }
+        }
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = -1;
+        int maxY = -1;
+        int count = 0;
+        ItemType firstType = null;
+        this.gridTypes.clear();
+        for (int y = 0; y < grid.getRows(); y++) {
+            for (int x = 0; x < grid.getColumns(); x++) {
+                final ItemStack itemStack = grid.peek(x, y).orElse(null);
+                if (isEmpty(itemStack)) {
+                    continue;
+                }
+                final ItemType type = itemStack.getType();
+                if (firstType == null) {
+                    firstType = type;
+                }
+                if (!this.gridTypes.contains(type)) {
+                    this.gridTypes.add(type);
+                }
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                count++;
+            }
+        }
+        // Every candidate list is ordered, so the first valid entry with the
+        // lowest order across all lists is the first valid recipe
+        match = test(this.unindexed, match, grid, world);
+        if (count != 0) {
+            final Bucket shaped = this.shaped.get(dimensions(maxX - minX + 1, maxY - minY + 1));
+            if (shaped != null) {
+                match = test(shaped.get(firstType), match, grid, world);
+            }
+            final Bucket shapeless = this.shapeless.get(count);
+            if (shapeless != null) {
+                match = test(shapeless.any, match, grid, world);
+                for (int i = 0; i < this.gridTypes.size(); i++) {
+                    match = test(shapeless.byType.getOrDefault(this.gridTypes.get(i), Collections.emptyList()), match, grid, world);
+                }
+            }
+        }
+        this.gridTypes.clear();
+        if (match == null) {
+            this.lastMatches.remove(grid);
+            return Optional.empty();
+        }
+        this.lastMatches.put(grid, match);
+        return Optional.of(match.recipe);
+    }
+
+    @Nullable
+    private Entry test(List<Entry> candidates, @Nullable Entry match, CraftingGridInventory grid, World world) {
+        for (int i = 0; i < candidates.size(); i++) {
+            final Entry entry = candidates.get(i);
+            if (match != null && entry.order >= match.order) {
+                break;
+            }
+            if (entry.lookup == this.lookup) {
+                continue;
+            }
+            entry.lookup = this.lookup;
+            if (entry.recipe.isValid(grid, world)) {
+                return entry;
+            }
+        }
+        return match;
+    }
+
+    private static final class Entry {
+
+        final int order;
+        final CraftingRecipe recipe;
+        // The last lookup this entry was tested in
+        int lookup;
+
+        Entry(int order, CraftingRecipe recipe) {
+            this.order = order;
+            this.recipe = recipe;
+        }
+    }
+
+    private static final class Bucket {
+
+        final Map<ItemType, List<Entry>> byType = new HashMap<>();
+        // The entries for all item types, also contained in every list of
+        // byTypeAndAny
+        final List<Entry> any = new ArrayList<>();
+        final Map<ItemType, List<Entry>> byTypeAndAny = new HashMap<>();
+
+        void add(Entry entry, Collection<ItemType> types) {
+            // Entries are added in order, so appending keeps all lists ordered
+            for (ItemType type : types) {
+                addLast(this.byType.computeIfAbsent(type, key -> new ArrayList<>()), entry);
+                addLast(this.byTypeAndAny.computeIfAbsent(type, key -> new ArrayList<>(this.any)), entry);
+            }
+        }
+
+        private static void addLast(List<Entry> entries, Entry entry) {
+            // An entry may be added for the same type more than once
+            if (entries.isEmpty() || entries.get(entries.size() - 1) != entry) {
+                entries.add(entry);
+            }
+        }
+
+        void addAny(Entry entry) {
+            this.any.add(entry);
+            for (List<Entry> merged : this.byTypeAndAny.values()) {
+                merged.add(entry);
+            }
+        }
+
+        /**
+         * Gets the ordered entries for the given item type, including the
+         * entries for all item types.
+         */
+        List<Entry> get(@Nullable ItemType type) {
+            return this.byTypeAndAny.getOrDefault(type, this.any);
+        }
+    }
+
+}
@@ -32,6 +32,10 @@
 
 /**
  * A registry for Crafting Table recipes.
+ *
+ * <p>Implementations are advised to back
+ * {@link #findMatchingRecipe(CraftingGridInventory, World)} with a
+ * {@link CraftingRecipeIndex} rather than testing every recipe.</p>
  */
 public interface CraftingRecipeRegistry extends RecipeRegistry<CraftingRecipe> {
 
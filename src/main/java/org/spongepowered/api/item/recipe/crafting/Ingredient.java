@@ -33,7 +33,9 @@
 import org.spongepowered.api.util.generator.dummy.DummyObjectProvider;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -62,6 +64,20 @@ public interface Ingredient extends Predicate<ItemStack> {
      */
     List<ItemStackSnapshot> displayedItems();
 
+    /**
+     * Gets the {@link ItemType}s of all {@link ItemStack}s this ingredient can
+     * match, if the ingredient is restricted to a known set of item types.
+     *
+     * <p>This is used to index recipes by their ingredients, see
+     * {@link CraftingRecipeIndex}. An ingredient which cannot name its item
+     * types returns {@link Optional#empty()} and is always tested.</p>
+     *
+     * @return The item types, if known
+     */
+    default Optional<Collection<ItemType>> getMatchingItemTypes() {
+        return Optional.empty();
+    }
+
     /**
      * Creates a new {@link Builder} to build an {@link Ingredient}.
      *
@@ -31,6 +31,7 @@
 import org.spongepowered.api.item.recipe.Recipe;
 import org.spongepowered.api.util.ResettableBuilder;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -68,6 +69,20 @@ static Builder builder() {
      */
     boolean isValid(ItemStackSnapshot ingredient);
 
+    /**
+     * Gets the {@link ItemType}s of all ingredients this recipe can accept,
+     * if the recipe is restricted to a known set of item types.
+     *
+     * <p>This is used to index recipes by their ingredient, see
+     * {@link SmeltingRecipeIndex}. A recipe which cannot name its item types
+     * returns {@link Optional#empty()} and is always tested.</p>
+     *
+     * @return The item types, if known
+     */
+    default Optional<Collection<ItemType>> getMatchingItemTypes() {
+        return Optional.empty();
+    }
+
     /**
      * <p>Returns the {@link SmeltingResult} containing the resulting
      * {@link ItemStackSnapshot} and the amount of experience released.</p>
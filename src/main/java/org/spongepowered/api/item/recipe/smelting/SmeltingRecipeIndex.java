@@ -0,0 +1,125 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.recipe.smelting;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An index over {@link SmeltingRecipe}s by the item type of their ingredient,
+ * intended to back
+ * {@link SmeltingRecipeRegistry#findMatchingRecipe(ItemStackSnapshot)}.
+ *
+ * <p>Recipes are bucketed by {@link SmeltingRecipe#getMatchingItemTypes()},
+ * recipes which cannot name their item types are always tested. Recipes are
+ * tested in the order they were added, the first valid recipe is
+ * returned.</p>
+ *
+ * <p>This index is not thread safe.</p>
+ */
+public final class SmeltingRecipeIndex {
+
+    private final Map<ItemType, List<Entry>> byType = new HashMap<>();
+    private final List<Entry> unindexed = new ArrayList<>();
+    private int size;
+
+    /**
+     * Adds the given {@link SmeltingRecipe} to this index.
+     *
+     * @param recipe The recipe
+     */
+    public void add(SmeltingRecipe recipe) {
+        checkNotNull(recipe, "recipe");
+        final Entry entry = new Entry(this.size++, recipe);
+        final Optional<Collection<ItemType>> types = recipe.getMatchingItemTypes();
+        if (types.isPresent()) {
+            for (ItemType type : types.get()) {
+                this.byType.computeIfAbsent(type, key -> new ArrayList<>()).add(entry);
+            }
+        } else {
+            this.unindexed.add(entry);
+        }
+    }
+
+    /**
+     * Gets the number of {@link SmeltingRecipe}s in this index.
+     *
+     * @return The number of recipes
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Finds the first added {@link SmeltingRecipe} which is
+     * {@link SmeltingRecipe#isValid(ItemStackSnapshot) valid} for the given
+     * ingredient.
+     *
+     * @param ingredient The ingredient to check against
+     * @return The found recipe, or {@link Optional#empty()} if no recipe was
+     *         found for this ingredient
+     */
+    public Optional<SmeltingRecipe> findMatchingRecipe(ItemStackSnapshot ingredient) {
+        checkNotNull(ingredient, "ingredient");
+        final List<Entry> indexed = this.byType.getOrDefault(ingredient.getType(), Collections.emptyList());
+        // Merge both lists to test the recipes in the order they were added
+        int i = 0;
+        int j = 0;
+        while (i < indexed.size() || j < this.unindexed.size()) {
+            final Entry entry;
+            if (j == this.unindexed.size() || i < indexed.size() && indexed.get(i).order < this.unindexed.get(j).order) {
+                entry = indexed.get(i++);
+            } else {
+                entry = this.unindexed.get(j++);
+            }
+            if (entry.recipe.isValid(ingredient)) {
+                return Optional.of(entry.recipe);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final class Entry {
+
+        final int order;
+        final SmeltingRecipe recipe;
+
+        Entry(int order, SmeltingRecipe recipe) {
+            this.order = order;
+            this.recipe = recipe;
+        }
+    }
+
+}
@@ -31,6 +31,10 @@
 
 /**
  * A registry for Crafting Table recipes.
+ *
+ * <p>Implementations are advised to back
+ * {@link #findMatchingRecipe(ItemStackSnapshot)} with a
+ * {@link SmeltingRecipeIndex} rather than testing every recipe.</p>
  */
 public interface SmeltingRecipeRegistry extends RecipeRegistry<SmeltingRecipe> {
 
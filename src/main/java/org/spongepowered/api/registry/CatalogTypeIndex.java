@@ -0,0 +1,93 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry;
+
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.GameRegistry;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An index assigning every registered {@link CatalogType} of a catalog class
+ * a dense ordinal.
+ *
+ * <p>Ordinals start at {@code 0} and are assigned to catalog types in the
+ * order in which they are created, an ordinal is never reused or reassigned
+ * while the game is running. Types which expose an ordinal of their own
+ * define it the same way, so that for example
+ * {@link org.spongepowered.api.data.key.Key#getOrdinal()} equals the ordinal
+ * of the key in the index of keys. Ordinals are not stable between game
+ * sessions and must not be persisted, the {@link CatalogType#getId() id}
+ * should be used for that instead.</p>
+ *
+ * @param <T> The type of catalog type
+ * @see GameRegistry#getIndex(Class)
+ * @see CatalogTypeSet
+ * @see CatalogTypeMap
+ */
+public interface CatalogTypeIndex<T extends CatalogType> {
+
+    /**
+     * Gets the class of the {@link CatalogType}s in this index.
+     *
+     * @return The catalog class
+     */
+    Class<T> getCatalogClass();
+
+    /**
+     * Gets the number of {@link CatalogType}s registered in this index, which
+     * is also one more than the highest assigned ordinal.
+     *
+     * @return The number of catalog types
+     */
+    int size();
+
+    /**
+     * Gets the ordinal of the given {@link CatalogType}.
+     *
+     * @param type The catalog type
+     * @return The ordinal, or {@code -1} if the type is not registered
+     */
+    int getOrdinal(T type);
+
+    /**
+     * Gets the {@link CatalogType} with the given ordinal.
+     *
+     * @param ordinal The ordinal
+     * @return The catalog type, if found
+     */
+    Optional<T> byOrdinal(int ordinal);
+
+    /**
+     * Gets all registered {@link CatalogType}s, each at the index of its
+     * ordinal. The returned list is an unmodifiable view, it does not need to
+     * be copied on every request and will reflect types registered later.
+     *
+     * @return The catalog types
+     */
+    List<T> getAll();
+
+}
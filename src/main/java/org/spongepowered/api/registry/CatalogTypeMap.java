@@ -0,0 +1,284 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link Map} with {@link CatalogType} keys of one catalog class, which is
+ * backed by an array indexed by the
+ * {@link CatalogTypeIndex#getOrdinal(CatalogType) ordinals} of the keys.
+ *
+ * <p>This is the catalog type counterpart of {@link java.util.EnumMap}, all
+ * basic operations are constant time and do not hash the keys. The map
+ * iterates in ordinal order. Like {@link java.util.EnumMap} it is not thread
+ * safe, permits {@code null} values but no {@code null} keys.</p>
+ *
+ * @param <K> The type of catalog type
+ * @param <V> The type of value
+ */
+public final class CatalogTypeMap<K extends CatalogType, V> extends AbstractMap<K, V> {
+
+    private static final Object NULL = new Object();
+
+    /**
+     * Creates an empty {@link CatalogTypeMap} for the given catalog class.
+     *
+     * @param typeClass The catalog class
+     * @param <K> The type of catalog type
+     * @param <V> The type of value
+     * @return The new map
+     */
+    public static <K extends CatalogType, V> CatalogTypeMap<K, V> of(Class<K> typeClass) {
+        return of(Sponge.getRegistry().getIndex(typeClass));
+    }
+
+    /**
+     * Creates an empty {@link CatalogTypeMap} for the given
+     * {@link CatalogTypeIndex}.
+     *
+     * @param index The catalog type index
+     * @param <K> The type of catalog type
+     * @param <V> The type of value
+     * @return The new map
+     */
+    public static <K extends CatalogType, V> CatalogTypeMap<K, V> of(CatalogTypeIndex<K> index) {
+        return new CatalogTypeMap<>(checkNotNull(index, "index"));
+    }
+
+    private final CatalogTypeIndex<K> index;
+    private Object[] values;
+    private int size;
+    private int modCount;
+    @Nullable private Set<Entry<K, V>> entrySet;
+
+    private CatalogTypeMap(CatalogTypeIndex<K> index) {
+        this.index = index;
+        this.values = new Object[index.size()];
+    }
+
+    /**
+     * Gets the {@link CatalogTypeIndex} of this map.
+     *
+     * @return The catalog type index
+     */
+    public CatalogTypeIndex<K> getIndex() {
+        return this.index;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <V> V unmask(@Nullable Object value) {
+        return value == NULL ? null : (V) value;
+    }
+
+    private int ordinalOf(@Nullable Object key) {
+        return this.index.getCatalogClass().isInstance(key) ? this.index.getOrdinal(this.index.getCatalogClass().cast(key)) : -1;
+    }
+
+    /**
+     * Gets the value mapped to the type with the given ordinal.
+     *
+     * @param ordinal The ordinal
+     * @return The value, or {@code null} if absent
+     */
+    @Nullable
+    public V getByOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < this.values.length ? unmask(this.values[ordinal]) : null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        final int ordinal = ordinalOf(key);
+        return ordinal >= 0 && ordinal < this.values.length && this.values[ordinal] != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        final Object masked = value == null ? NULL : value;
+        for (Object candidate : this.values) {
+            if (masked.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        return getByOrdinal(ordinalOf(key));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        checkNotNull(key, "key");
+        final int ordinal = this.index.getOrdinal(key);
+        checkArgument(ordinal >= 0, "The type %s is not registered", key.getId());
+        if (ordinal >= this.values.length) {
+            this.values = Arrays.copyOf(this.values, Math.max(ordinal + 1, this.index.size()));
+        }
+        final Object old = this.values[ordinal];
+        this.values[ordinal] = value == null ? NULL : value;
+        if (old == null) {
+            this.size++;
+            this.modCount++;
+        }
+        return unmask(old);
+    }
+
+    @Override
+    public V remove(Object key) {
+        final int ordinal = ordinalOf(key);
+        if (ordinal < 0 || ordinal >= this.values.length || this.values[ordinal] == null) {
+            return null;
+        }
+        final Object old = this.values[ordinal];
+        this.values[ordinal] = null;
+        this.size--;
+        this.modCount++;
+        return unmask(old);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+        return this.entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return CatalogTypeMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            CatalogTypeMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int expectedModCount = CatalogTypeMap.this.modCount;
+        private int next = nextOrdinal(0);
+        private int last = -1;
+
+        private int nextOrdinal(int from) {
+            final Object[] values = CatalogTypeMap.this.values;
+            for (int ordinal = from; ordinal < values.length; ordinal++) {
+                if (values[ordinal] != null) {
+                    return ordinal;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != -1;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (this.next == -1) {
+                throw new NoSuchElementException();
+            }
+            if (this.expectedModCount != CatalogTypeMap.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+            this.last = this.next;
+            this.next = nextOrdinal(this.next + 1);
+            return new OrdinalEntry(this.last);
+        }
+
+        @Override
+        public void remove() {
+            checkState(this.last != -1, "next() has not been called");
+            if (this.expectedModCount != CatalogTypeMap.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+            CatalogTypeMap.this.values[this.last] = null;
+            CatalogTypeMap.this.size--;
+            this.expectedModCount = ++CatalogTypeMap.this.modCount;
+            this.last = -1;
+        }
+    }
+
+    private final class OrdinalEntry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int ordinal;
+
+        OrdinalEntry(int ordinal) {
+            super(CatalogTypeMap.this.index.byOrdinal(ordinal).get(), unmask(CatalogTypeMap.this.values[ordinal]));
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public V setValue(V value) {
+            checkState(CatalogTypeMap.this.values[this.ordinal] != null, "The entry has been removed");
+            CatalogTypeMap.this.values[this.ordinal] = value == null ? NULL : value;
+            return super.setValue(value);
+        }
+    }
+
+}
@@ -0,0 +1,356 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link java.util.Set} of {@link CatalogType}s of one catalog class, which
+ * is backed by a bit vector indexed by the
+ * {@link CatalogTypeIndex#getOrdinal(CatalogType) ordinals} of the types.
+ *
+ * <p>This is the catalog type counterpart of {@link java.util.EnumSet}, all
+ * basic operations are constant time and bulk operations between sets of the
+ * same index are performed on the bit vectors. The set iterates in ordinal
+ * order. Like {@link java.util.EnumSet} it is not thread safe and does not
+ * permit {@code null} elements.</p>
+ *
+ * @param <T> The type of catalog type
+ */
+public final class CatalogTypeSet<T extends CatalogType> extends AbstractSet<T> {
+
+    /**
+     * Creates an empty {@link CatalogTypeSet} for the given catalog class.
+     *
+     * @param typeClass The catalog class
+     * @param <T> The type of catalog type
+     * @return The new set
+     */
+    public static <T extends CatalogType> CatalogTypeSet<T> noneOf(Class<T> typeClass) {
+        return noneOf(Sponge.getRegistry().getIndex(typeClass));
+    }
+
+    /**
+     * Creates an empty {@link CatalogTypeSet} for the given
+     * {@link CatalogTypeIndex}.
+     *
+     * @param index The catalog type index
+     * @param <T> The type of catalog type
+     * @return The new set
+     */
+    public static <T extends CatalogType> CatalogTypeSet<T> noneOf(CatalogTypeIndex<T> index) {
+        return new CatalogTypeSet<>(checkNotNull(index, "index"));
+    }
+
+    /**
+     * Creates a {@link CatalogTypeSet} containing all currently registered
+     * types of the given catalog class.
+     *
+     * @param typeClass The catalog class
+     * @param <T> The type of catalog type
+     * @return The new set
+     */
+    public static <T extends CatalogType> CatalogTypeSet<T> allOf(Class<T> typeClass) {
+        return allOf(Sponge.getRegistry().getIndex(typeClass));
+    }
+
+    /**
+     * Creates a {@link CatalogTypeSet} containing all currently registered
+     * types of the given {@link CatalogTypeIndex}.
+     *
+     * @param index The catalog type index
+     * @param <T> The type of catalog type
+     * @return The new set
+     */
+    public static <T extends CatalogType> CatalogTypeSet<T> allOf(CatalogTypeIndex<T> index) {
+        final CatalogTypeSet<T> set = noneOf(index);
+        final int size = index.size();
+        set.words = new long[wordCount(size)];
+        Arrays.fill(set.words, -1L);
+        if ((size & 63) != 0) {
+            set.words[set.words.length - 1] = -1L >>> -size;
+        }
+        return set;
+    }
+
+    /**
+     * Creates a {@link CatalogTypeSet} containing the given types of the
+     * given catalog class.
+     *
+     * @param typeClass The catalog class
+     * @param types The types to add
+     * @param <T> The type of catalog type
+     * @return The new set
+     */
+    public static <T extends CatalogType> CatalogTypeSet<T> copyOf(Class<T> typeClass, Collection<? extends T> types) {
+        final CatalogTypeSet<T> set = noneOf(typeClass);
+        set.addAll(types);
+        return set;
+    }
+
+    private static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private final CatalogTypeIndex<T> index;
+    private long[] words = new long[0];
+    private int modCount;
+
+    private CatalogTypeSet(CatalogTypeIndex<T> index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets the {@link CatalogTypeIndex} of this set.
+     *
+     * @return The catalog type index
+     */
+    public CatalogTypeIndex<T> getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets whether this set contains the type with the given ordinal.
+     *
+     * @param ordinal The ordinal
+     * @return True if the type is contained
+     */
+    public boolean containsOrdinal(int ordinal) {
+        final int word = ordinal >>> 6;
+        return ordinal >= 0 && word < this.words.length && (this.words[word] & (1L << ordinal)) != 0;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (long word : this.words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (long word : this.words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return this.index.getCatalogClass().isInstance(o) && containsOrdinal(this.index.getOrdinal(this.index.getCatalogClass().cast(o)));
+    }
+
+    @Override
+    public boolean add(T type) {
+        checkNotNull(type, "type");
+        final int ordinal = this.index.getOrdinal(type);
+        checkArgument(ordinal >= 0, "The type %s is not registered", type.getId());
+        final int word = ordinal >>> 6;
+        if (word >= this.words.length) {
+            this.words = Arrays.copyOf(this.words, Math.max(word + 1, wordCount(this.index.size())));
+        }
+        final long old = this.words[word];
+        this.words[word] |= 1L << ordinal;
+        if (old != this.words[word]) {
+            this.modCount++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+        final int ordinal = this.index.getOrdinal(this.index.getCatalogClass().cast(o));
+        this.words[ordinal >>> 6] &= ~(1L << ordinal);
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof CatalogTypeSet) || ((CatalogTypeSet<?>) c).index != this.index) {
+            return super.containsAll(c);
+        }
+        final long[] other = ((CatalogTypeSet<?>) c).words;
+        for (int i = 0; i < other.length; i++) {
+            final long word = i < this.words.length ? this.words[i] : 0;
+            if ((other[i] & ~word) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        if (!(c instanceof CatalogTypeSet) || ((CatalogTypeSet<?>) c).index != this.index) {
+            return super.addAll(c);
+        }
+        final long[] other = ((CatalogTypeSet<?>) c).words;
+        if (other.length > this.words.length) {
+            this.words = Arrays.copyOf(this.words, other.length);
+        }
+        boolean changed = false;
+        for (int i = 0; i < other.length; i++) {
+            final long old = this.words[i];
+            this.words[i] |= other[i];
+            changed |= old != this.words[i];
+        }
+        if (changed) {
+            this.modCount++;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (!(c instanceof CatalogTypeSet) || ((CatalogTypeSet<?>) c).index != this.index) {
+            return super.removeAll(c);
+        }
+        final long[] other = ((CatalogTypeSet<?>) c).words;
+        boolean changed = false;
+        for (int i = 0; i < Math.min(other.length, this.words.length); i++) {
+            final long old = this.words[i];
+            this.words[i] &= ~other[i];
+            changed |= old != this.words[i];
+        }
+        if (changed) {
+            this.modCount++;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        if (!(c instanceof CatalogTypeSet) || ((CatalogTypeSet<?>) c).index != this.index) {
+            return super.retainAll(c);
+        }
+        final long[] other = ((CatalogTypeSet<?>) c).words;
+        boolean changed = false;
+        for (int i = 0; i < this.words.length; i++) {
+            final long old = this.words[i];
+            this.words[i] &= i < other.length ? other[i] : 0;
+            changed |= old != this.words[i];
+        }
+        if (changed) {
+            this.modCount++;
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.words, 0);
+        this.modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Creates a copy of this set.
+     *
+     * @return The copy
+     */
+    public CatalogTypeSet<T> copy() {
+        final CatalogTypeSet<T> copy = new CatalogTypeSet<>(this.index);
+        copy.words = this.words.clone();
+        return copy;
+    }
+
+    private final class Itr implements Iterator<T> {
+
+        private int expectedModCount = CatalogTypeSet.this.modCount;
+        private int next = nextOrdinal(0);
+        private int last = -1;
+
+        private int nextOrdinal(int from) {
+            final long[] words = CatalogTypeSet.this.words;
+            int word = from >>> 6;
+            if (word >= words.length) {
+                return -1;
+            }
+            long bits = words[word] & (-1L << from);
+            while (bits == 0) {
+                if (++word >= words.length) {
+                    return -1;
+                }
+                bits = words[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != -1;
+        }
+
+        @Override
+        public T next() {
+            if (this.next == -1) {
+                throw new NoSuchElementException();
+            }
+            if (this.expectedModCount != CatalogTypeSet.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+            this.last = this.next;
+            this.next = nextOrdinal(this.next + 1);
+            return CatalogTypeSet.this.index.byOrdinal(this.last).get();
+        }
+
+        @Override
+        public void remove() {
+            checkState(this.last != -1, "next() has not been called");
+            if (this.expectedModCount != CatalogTypeSet.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+            CatalogTypeSet.this.words[this.last >>> 6] &= ~(1L << this.last);
+            this.expectedModCount = ++CatalogTypeSet.this.modCount;
+            this.last = -1;
+        }
+    }
+
+}
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.GameRegistry;
+import org.spongepowered.api.registry.util.ConcurrentRegistration;
 import org.spongepowered.api.registry.util.DelayedRegistration;
 import org.spongepowered.api.registry.util.RegistrationDependency;
 
@@ -39,7 +40,8 @@
  * <p>Note that there are various aspects of how initialization of
  * these modules can be affected, be it from {@link CatalogRegistryModule}s,
  * {@link DelayedRegistration}, {@link AlternateCatalogRegistryModule}s,
- * or {@link RegistrationDependency}.</p>
+ * or {@link RegistrationDependency}. Modules annotated with
+ * {@link ConcurrentRegistration} may be registered in parallel.</p>
  */
 public interface RegistryModule {
 
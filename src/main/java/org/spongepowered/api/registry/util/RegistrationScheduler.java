@@ -0,0 +1,157 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.registry.RegistrationPhase;
+import org.spongepowered.api.registry.RegistryModule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Performs the {@link RegistryModule#registerDefaults() default
+ * registrations} of the {@link RegistryModule}s of a
+ * {@link RegistrationPhase}, running the modules annotated with
+ * {@link ConcurrentRegistration} in parallel.
+ *
+ * <p>The modules are registered in the order they are given, except where
+ * a {@link RegistrationDependency} requires a module to be moved behind its
+ * dependencies. The dependencies of all modules are validated before any
+ * registration starts.</p>
+ *
+ * <p>Modules which are not annotated with {@link ConcurrentRegistration}
+ * are registered on the calling thread, after every module which precedes
+ * them has completed. The annotated modules which follow such a module are
+ * submitted to the executor once it has completed, and only run in parallel
+ * with each other, as soon as their own dependencies have completed.</p>
+ */
+public final class RegistrationScheduler {
+
+    /**
+     * Performs the default registrations of the given modules, using the
+     * given {@link Executor} for the concurrent modules, and waits for all
+     * of them to complete.
+     *
+     * <p>Dependencies on modules which are not part of the given modules are
+     * assumed to have been registered already.</p>
+     *
+     * @param modules The modules to register, in their registration order
+     * @param executor The executor to run the concurrent registrations on
+     * @throws IllegalArgumentException If the dependencies of the modules
+     *     form a cycle, in which case no module is registered
+     */
+    public static void registerDefaults(List<? extends RegistryModule> modules, Executor executor) {
+        checkNotNull(modules, "modules");
+        checkNotNull(executor, "executor");
+        new RegistrationScheduler(modules, executor).run();
+    }
+
+    private final List<? extends RegistryModule> modules;
+    private final Executor executor;
+    private final Map<RegistryModule, List<RegistryModule>> dependencies = new IdentityHashMap<>();
+    private final List<RegistryModule> ordered = new ArrayList<>();
+
+    private RegistrationScheduler(List<? extends RegistryModule> modules, Executor executor) {
+        this.modules = modules;
+        this.executor = executor;
+    }
+
+    private void run() {
+        final Set<RegistryModule> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (RegistryModule module : this.modules) {
+            sort(checkNotNull(module, "module"), visiting);
+        }
+        final Map<RegistryModule, CompletableFuture<Void>> scheduled = new IdentityHashMap<>();
+        // The concurrent modules which were submitted since the last serial module
+        final List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (RegistryModule module : this.ordered) {
+            if (module.getClass().isAnnotationPresent(ConcurrentRegistration.class)) {
+                final List<RegistryModule> dependencies = this.dependencies.get(module);
+                final CompletableFuture<?>[] futures = new CompletableFuture<?>[dependencies.size()];
+                for (int i = 0; i < futures.length; i++) {
+                    futures[i] = scheduled.get(dependencies.get(i));
+                }
+                final CompletableFuture<Void> future = CompletableFuture.allOf(futures).thenRunAsync(module::registerDefaults, this.executor);
+                scheduled.put(module, future);
+                pending.add(future);
+            } else {
+                await(pending);
+                pending.clear();
+                module.registerDefaults();
+                scheduled.put(module, CompletableFuture.completedFuture(null));
+            }
+        }
+        await(pending);
+    }
+
+    private void sort(RegistryModule module, Set<RegistryModule> visiting) {
+        if (this.dependencies.containsKey(module)) {
+            return;
+        }
+        if (!visiting.add(module)) {
+            throw new IllegalArgumentException("The registration dependencies of " + module + " form a cycle");
+        }
+        final List<RegistryModule> dependencies = new ArrayList<>();
+        final RegistrationDependency dependency = module.getClass().getAnnotation(RegistrationDependency.class);
+        if (dependency != null) {
+            for (Class<? extends RegistryModule> dependencyClass : dependency.value()) {
+                for (RegistryModule other : this.modules) {
+                    if (other != module && dependencyClass.isInstance(other)) {
+                        sort(other, visiting);
+                        dependencies.add(other);
+                    }
+                }
+            }
+        }
+        visiting.remove(module);
+        this.dependencies.put(module, dependencies);
+        this.ordered.add(module);
+    }
+
+    private static void await(List<CompletableFuture<Void>> futures) {
+        try {
+            // Completes only once all futures are done, even if one of them failed
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+}
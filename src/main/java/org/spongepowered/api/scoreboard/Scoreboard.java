@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.scoreboard;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.scoreboard.critieria.Criterion;
@@ -35,6 +37,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
@@ -56,6 +59,62 @@ static Builder builder() {
         return Sponge.getRegistry().createBuilder(Builder.class);
     }
 
+    /**
+     * Gets the parent {@link Scoreboard} this scoreboard is an overlay of, if
+     * any.
+     *
+     * <p>An overlay shows all {@link Objective}s, display slots and
+     * {@link Team}s of its parent without copying them, so changes to the
+     * parent are seen by the viewers of all its overlays. Objectives, display
+     * slots and teams of the overlay itself take precedence over those of
+     * the parent with the same name or slot. This allows a shared scoreboard
+     * to be combined with a few per-player lines.</p>
+     *
+     * <p>The lookups of an overlay, such as {@link #getObjective(String)},
+     * {@link #getObjectives()}, {@link #getTeams()} and {@link #getScores()},
+     * see the combined view: they include the entries of the parent, except
+     * those which are hidden by an entry of the overlay itself. Changes made
+     * through an overlay, such as {@link #addObjective(Objective)},
+     * {@link #removeObjective(Objective)} and {@link #registerTeam(Team)},
+     * only ever affect the overlay and never its parent.</p>
+     *
+     * <p>Scoreboards which don't support overlays never have a parent, as
+     * their {@link Builder} rejects any.</p>
+     *
+     * @return The parent scoreboard, if this scoreboard is an overlay
+     */
+    default Optional<Scoreboard> getParent() {
+        return Optional.empty();
+    }
+
+    /**
+     * Applies the changes made by the given function to this scoreboard as a
+     * single update.
+     *
+     * <p>While the function runs, changes to the {@link Objective}s,
+     * {@link Score}s and {@link Team}s of this scoreboard are staged instead
+     * of being sent to the viewers one by one. Once it returns, the staged
+     * state is compared against the state before the update, and only the
+     * difference is sent to each viewer as a single batch. Changes that are
+     * undone within the same update are not sent at all.</p>
+     *
+     * <p>Updates may be nested, in which case the changes are sent once the
+     * outermost update completes. If the function throws an exception, all
+     * changes staged by the outermost update are discarded, the scoreboard is
+     * left as it was before the update and nothing is sent to the
+     * viewers. The exception is then passed on to the caller.</p>
+     *
+     * <p>The default implementation doesn't stage changes, it lets the
+     * function make them directly, so they can't be discarded. Scoreboards
+     * which are shown to viewers are expected to override it.</p>
+     *
+     * @param changes The function making the changes to this scoreboard
+     */
+    default void update(Consumer<? super Scoreboard> changes) {
+        checkNotNull(changes, "changes");
+        changes.accept(this);
+    }
+
     /**
      * Gets an {@link Objective} on this scoreboard by name, if it exists.
      *
@@ -79,7 +138,9 @@ static Builder builder() {
      * @param objective The {@link Objective} add
      * @throws IllegalArgumentException if an {@link Objective} with the same
      *             {@link Objective#getName() name} already exists, or if the
-     *             specified {@link Objective} has already been added.
+     *             specified {@link Objective} has already been added. On an
+     *             overlay, only the objectives of the overlay itself are
+     *             considered, see {@link #getParent()}.
      */
     void addObjective(Objective objective) throws IllegalArgumentException;
 
@@ -217,6 +278,27 @@ interface Builder extends ResettableBuilder<Scoreboard, Builder> {
          */
         Builder teams(List<Team> teams);
 
+        /**
+         * Sets the parent {@link Scoreboard} of the {@link Scoreboard},
+         * making it an overlay of the parent.
+         *
+         * <p>By default, the scoreboard has no parent. The default
+         * implementation doesn't support overlays and only accepts
+         * {@code null}.</p>
+         *
+         * @param parent The parent scoreboard, or {@code null} for none
+         * @return This builder
+         * @throws UnsupportedOperationException If a parent is given, but
+         *     the built scoreboards don't support overlays
+         * @see Scoreboard#getParent()
+         */
+        default Builder parent(@Nullable Scoreboard parent) {
+            if (parent != null) {
+                throw new UnsupportedOperationException("This builder does not support overlay scoreboards");
+            }
+            return this;
+        }
+
         /**
          * Builds an instance of a {@link Scoreboard}.
          *
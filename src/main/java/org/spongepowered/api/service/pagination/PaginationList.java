@@ -33,6 +33,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntSupplier;
 
 import javax.annotation.Nullable;
 
@@ -56,6 +57,10 @@ static Builder builder() {
     /**
      * Gets the contents of this pagination list.
      *
+     * <p>If the contents are provided by a {@link ContentSource}, iterating
+     * the returned iterable pulls the contents from the source window by
+     * window.</p>
+     *
      * @return The contents of this pagination list
      */
     Iterable<Text> getContents();
@@ -143,6 +148,10 @@ default void sendTo(Iterable<MessageReceiver> receivers) {
      * Sends the specified page of the constructed pagination list
      * all {@link MessageReceiver}s within an {@link Iterable}.
      *
+     * <p>Implementations should lay out and render the page only once for
+     * all receivers sharing the same locale, rather than once per
+     * receiver.</p>
+     *
      * @param receivers The message receivers to send the page to
      * @param page The page to send
      */
@@ -153,6 +162,29 @@ default void sendTo(Iterable<MessageReceiver> receivers, int page) {
         }
     }
 
+    /**
+     * A source that provides the contents of a pagination list on demand, one
+     * window of lines at a time, for example by querying a database.
+     *
+     * <p>Only the window of the requested page is pulled from the source when
+     * a page is sent. Each {@link Text} of the source is displayed as a single
+     * line.</p>
+     */
+    @FunctionalInterface
+    interface ContentSource {
+
+        /**
+         * Gets the contents in the specified window. Fewer contents than the
+         * limit are returned if the end of the contents was reached.
+         *
+         * @param offset The index of the first content, starting at 0
+         * @param limit The maximum number of contents to return
+         * @return The contents in the window
+         */
+        List<Text> get(int offset, int limit);
+
+    }
+
     /**
      * Builds a paginated output for an iterable of {@link Text}s.
      */
@@ -178,6 +210,36 @@ interface Builder extends ResettableBuilder<PaginationList, Builder> {
          */
         Builder contents(Text... contents);
 
+        /**
+         * Sets the contents of this output to be pulled lazily from the given
+         * {@link ContentSource}, without a known total number of contents.
+         *
+         * <p>Without a known total, only going to the next page will be
+         * supported until the source returns fewer contents than requested,
+         * and no page count will be shown.</p>
+         *
+         * @param source The source of the contents to output
+         * @return This builder
+         */
+        default Builder contents(ContentSource source) {
+            return contents(source, null);
+        }
+
+        /**
+         * Sets the contents of this output to be pulled lazily from the given
+         * {@link ContentSource}, with the total number of contents provided
+         * by the given supplier.
+         *
+         * <p>Rendered pages are cached per locale, so sending the same page
+         * repeatedly does not pull the window from the source again.</p>
+         *
+         * @param source The source of the contents to output
+         * @param count The supplier of the total number of contents, or
+         *     {@code null} if it is unknown
+         * @return This builder
+         */
+        Builder contents(ContentSource source, @Nullable IntSupplier count);
+
         /**
          * Sets the title text to be used in the title bar of this pagination.
          *
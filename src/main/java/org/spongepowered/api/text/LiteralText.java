@@ -28,7 +28,6 @@
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
-import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.text.action.ClickAction;
 import org.spongepowered.api.text.action.HoverAction;
 import org.spongepowered.api.text.action.ShiftClickAction;
@@ -61,14 +60,14 @@ public final class LiteralText extends Text {
      * content with the specified formatting and text actions applied.
      *
      * @param format The format of the text
-     * @param children The immutable list of children of the text
+     * @param children The immutable children of the text
      * @param clickAction The click action of the text, or {@code null} for none
      * @param hoverAction The hover action of the text, or {@code null} for none
      * @param shiftClickAction The shift click action of the text, or
      *        {@code null} for none
      * @param content The plain text content of the text
      */
-    LiteralText(TextFormat format, ImmutableList<Text> children, @Nullable ClickAction<?> clickAction,
+    LiteralText(TextFormat format, TextChildren children, @Nullable ClickAction<?> clickAction,
             @Nullable HoverAction<?> hoverAction, @Nullable ShiftClickAction<?> shiftClickAction, String content) {
         super(format, children, clickAction, hoverAction, shiftClickAction);
         this.content = checkNotNull(content, "content");
@@ -88,6 +87,12 @@ public Builder toBuilder() {
         return new Builder(this);
     }
 
+    @Override
+    LiteralText copyWithChildren(TextChildren children) {
+        return new LiteralText(this.format, children, this.clickAction.orElse(null), this.hoverAction.orElse(null),
+                this.shiftClickAction.orElse(null), this.content);
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) {
@@ -102,8 +107,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.content);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.content);
     }
 
     @Override
@@ -197,7 +202,7 @@ public LiteralText build() {
 
             return new LiteralText(
                     this.format,
-                    ImmutableList.copyOf(this.children),
+                    TextChildren.of(this.children),
                     this.clickAction,
                     this.hoverAction,
                     this.shiftClickAction,
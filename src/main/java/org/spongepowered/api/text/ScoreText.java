@@ -28,7 +28,6 @@
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
-import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.text.action.ClickAction;
 import org.spongepowered.api.text.action.HoverAction;
@@ -64,7 +63,7 @@ public final class ScoreText extends Text {
      * specified formatting and text actions applied.
      *
      * @param format The format of the text
-     * @param children The immutable list of children of the text
+     * @param children The immutable children of the text
      * @param clickAction The click action of the text, or {@code null} for none
      * @param hoverAction The hover action of the text, or {@code null} for none
      * @param shiftClickAction The shift click action of the text, or
@@ -73,7 +72,7 @@ public final class ScoreText extends Text {
      * @param override The text to override the score with, or {@code null} for
      *        none
      */
-    ScoreText(TextFormat format, ImmutableList<Text> children, @Nullable ClickAction<?> clickAction,
+    ScoreText(TextFormat format, TextChildren children, @Nullable ClickAction<?> clickAction,
             @Nullable HoverAction<?> hoverAction, @Nullable ShiftClickAction<?> shiftClickAction,
             Score score, @Nullable String override) {
         super(format, children, clickAction, hoverAction, shiftClickAction);
@@ -106,6 +105,12 @@ public Builder toBuilder() {
         return new Builder(this);
     }
 
+    @Override
+    ScoreText copyWithChildren(TextChildren children) {
+        return new ScoreText(this.format, children, this.clickAction.orElse(null), this.hoverAction.orElse(null),
+                this.shiftClickAction.orElse(null), this.score, this.override.orElse(null));
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) {
@@ -120,8 +125,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.score, this.override);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.score, this.override);
     }
 
     @Override
@@ -224,7 +229,7 @@ public Builder override(@Nullable String override) {
         public ScoreText build() {
             return new ScoreText(
                     this.format,
-                    ImmutableList.copyOf(this.children),
+                    TextChildren.of(this.children),
                     this.clickAction,
                     this.hoverAction,
                     this.shiftClickAction,
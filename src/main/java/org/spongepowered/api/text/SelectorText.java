@@ -28,7 +28,6 @@
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
-import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.text.action.ClickAction;
 import org.spongepowered.api.text.action.HoverAction;
 import org.spongepowered.api.text.action.ShiftClickAction;
@@ -62,14 +61,14 @@ public final class SelectorText extends Text {
      * with the specified formatting and text actions applied.
      *
      * @param format The format of the text
-     * @param children The immutable list of children of the text
+     * @param children The immutable children of the text
      * @param clickAction The click action of the text, or {@code null} for none
      * @param hoverAction The hover action of the text, or {@code null} for none
      * @param shiftClickAction The shift click action of the text, or
      *        {@code null} for none
      * @param selector The selector of the text
      */
-    SelectorText(TextFormat format, ImmutableList<Text> children, @Nullable ClickAction<?> clickAction,
+    SelectorText(TextFormat format, TextChildren children, @Nullable ClickAction<?> clickAction,
             @Nullable HoverAction<?> hoverAction, @Nullable ShiftClickAction<?> shiftClickAction,
             Selector selector) {
         super(format, children, clickAction, hoverAction, shiftClickAction);
@@ -90,6 +89,12 @@ public Builder toBuilder() {
         return new Builder(this);
     }
 
+    @Override
+    SelectorText copyWithChildren(TextChildren children) {
+        return new SelectorText(this.format, children, this.clickAction.orElse(null), this.hoverAction.orElse(null),
+                this.shiftClickAction.orElse(null), this.selector);
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) {
@@ -104,8 +109,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.selector);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.selector);
     }
 
     @Override
@@ -182,7 +187,7 @@ public Builder selector(Selector selector) {
         public SelectorText build() {
             return new SelectorText(
                     this.format,
-                    ImmutableList.copyOf(this.children),
+                    TextChildren.of(this.children),
                     this.clickAction,
                     this.hoverAction,
                     this.shiftClickAction,
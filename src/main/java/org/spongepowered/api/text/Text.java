@@ -43,6 +43,7 @@
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.api.text.selector.Selector;
+import org.spongepowered.api.text.serializer.TextSerializer;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.text.translation.Translatable;
 import org.spongepowered.api.text.translation.Translation;
@@ -100,8 +101,13 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     public static Comparator<Text> PLAIN_COMPARATOR = (text1, text2) -> text1.toPlain().compareTo(text2.toPlain());
 
+    /**
+     * The maximum number of serialized forms cached per {@link Text}.
+     */
+    private static final int MAX_SERIALIZED_FORMS = 4;
+
     final TextFormat format;
-    final ImmutableList<Text> children;
+    final TextChildren children;
     final Optional<ClickAction<?>> clickAction;
     final Optional<HoverAction<?>> hoverAction;
     final Optional<ShiftClickAction<?>> shiftClickAction;
@@ -112,13 +118,34 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     final Iterable<Text> childrenIterable;
 
+    /**
+     * The cached hash code of this {@link Text}, {@code 0} if it was not
+     * computed yet. Like {@link String#hashCode()}, racing threads at worst
+     * compute the same value twice.
+     */
+    private int hashCode;
+
+    /**
+     * The cached outputs of the {@link TextSerializer}s this {@link Text} was
+     * serialized with, most recent first.
+     */
+    @Nullable private volatile SerializedForm serializedForms;
+
+    /**
+     * Whether the serialized forms of this {@link Text} may be cached. Texts
+     * containing scores, selectors or translations are rendered from state
+     * that may change, so their serialized forms are never cached.
+     */
+    final boolean cacheable;
+
     Text() {
         this.format = TextFormat.NONE; // TODO
-        this.children = ImmutableList.of();
+        this.children = TextChildren.EMPTY;
         this.clickAction = Optional.empty();
         this.hoverAction = Optional.empty();
         this.shiftClickAction = Optional.empty();
         this.childrenIterable = () -> Iterators.singletonIterator(this);
+        this.cacheable = isCacheable(this);
     }
 
     /**
@@ -126,13 +153,13 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      * text actions applied.
      *
      * @param format The format of the text
-     * @param children The immutable list of children of the text
+     * @param children The immutable children of the text
      * @param clickAction The click action of the text, or {@code null} for none
      * @param hoverAction The hover action of the text, or {@code null} for none
      * @param shiftClickAction The shift click action of the text, or
      *        {@code null} for none
      */
-    Text(TextFormat format, ImmutableList<Text> children, @Nullable ClickAction<?> clickAction,
+    Text(TextFormat format, TextChildren children, @Nullable ClickAction<?> clickAction,
             @Nullable HoverAction<?> hoverAction, @Nullable ShiftClickAction<?> shiftClickAction) {
         this.format = checkNotNull(format, "format");
         this.children = checkNotNull(children, "children");
@@ -140,6 +167,12 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
         this.hoverAction = Optional.ofNullable(hoverAction);
         this.shiftClickAction = Optional.ofNullable(shiftClickAction);
         this.childrenIterable = () -> new TextIterator(this);
+        this.cacheable = isCacheable(this) && children.isCacheable()
+                && (hoverAction == null || !(hoverAction.getResult() instanceof Text) || ((Text) hoverAction.getResult()).cacheable);
+    }
+
+    private static boolean isCacheable(Text text) {
+        return !(text instanceof ScoreText || text instanceof SelectorText || text instanceof TranslatableText);
     }
 
     /**
@@ -177,7 +210,7 @@ public final TextStyle getStyle() {
      * @return The immutable list of children
      */
     public final ImmutableList<Text> getChildren() {
-        return this.children;
+        return this.children.toList();
     }
 
     /**
@@ -246,10 +279,43 @@ public final boolean isEmpty() {
      * Returns a plain text representation of this {@link Text} without any
      * formatting.
      *
+     * <p>The plain text is computed once and cached afterwards, unless this
+     * text contains scores, selectors or translations.</p>
+     *
      * @return This text converted to plain text
      */
     public final String toPlain() {
-        return TextSerializers.PLAIN.serialize(this);
+        return toSerialized(TextSerializers.PLAIN);
+    }
+
+    /**
+     * Returns the string representation of this {@link Text} in the format of
+     * the given {@link TextSerializer}.
+     *
+     * <p>As texts are immutable, the outputs of the last few serializers are
+     * cached, repeatedly serializing the same text with the same serializer
+     * is therefore free. Texts containing a {@link ScoreText},
+     * {@link SelectorText} or {@link TranslatableText} are serialized again
+     * every time, since their output depends on mutable state.</p>
+     *
+     * @param serializer The serializer to use
+     * @return The string representation of this text
+     * @see TextSerializer#serialize(Text)
+     */
+    public final String toSerialized(TextSerializer serializer) {
+        checkNotNull(serializer, "serializer");
+        final SerializedForm forms = this.serializedForms;
+        for (SerializedForm form = forms; form != null; form = form.next) {
+            if (form.serializer == serializer) {
+                return form.output;
+            }
+        }
+        final String output = serializer.serialize(this);
+        if (!this.cacheable) {
+            return output;
+        }
+        this.serializedForms = new SerializedForm(serializer, output, forms == null ? null : forms.limit(MAX_SERIALIZED_FORMS - 1));
+        return output;
     }
 
     /**
@@ -270,9 +336,19 @@ public final String toPlainSingle() {
      * @return Concatenated text
      */
     public final Text concat(Text other) {
-        return toBuilder().append(other).build();
+        checkNotNull(other, "other");
+        // Share the children with this text instead of copying them
+        return copyWithChildren(this.children.append(other));
     }
 
+    /**
+     * Returns a copy of this {@link Text} with the given children.
+     *
+     * @param children The children of the copy
+     * @return The copy
+     */
+    abstract Text copyWithChildren(TextChildren children);
+
     /**
      * Removes all empty texts from the beginning and end of this
      * text.
@@ -292,7 +368,7 @@ public int getContentVersion() {
     public DataContainer toContainer() {
         return DataContainer.createNew()
                 .set(Queries.CONTENT_VERSION, getContentVersion())
-                .set(Queries.JSON, TextSerializers.JSON.serialize(this));
+                .set(Queries.JSON, toSerialized(TextSerializers.JSON));
     }
 
     @Override
@@ -310,23 +386,41 @@ public boolean equals(@Nullable Object o) {
         }
 
         Text that = (Text) o;
+        if (this.hashCode != 0 && that.hashCode != 0 && this.hashCode != that.hashCode) {
+            return false;
+        }
         return this.format.equals(that.format)
-                && this.children.equals(that.children)
+                && this.getChildren().equals(that.getChildren())
                 && this.clickAction.equals(that.clickAction)
                 && this.hoverAction.equals(that.hoverAction)
                 && this.shiftClickAction.equals(that.shiftClickAction);
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(this.format, this.children, this.clickAction, this.hoverAction, this.shiftClickAction);
+    public final int hashCode() {
+        int hashCode = this.hashCode;
+        if (hashCode == 0) {
+            hashCode = computeHashCode();
+            this.hashCode = hashCode;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Computes the hash code of this {@link Text}, which is cached by
+     * {@link #hashCode()}.
+     *
+     * @return The hash code
+     */
+    int computeHashCode() {
+        return Objects.hashCode(this.format, this.getChildren(), this.clickAction, this.hoverAction, this.shiftClickAction);
     }
 
     MoreObjects.ToStringHelper toStringHelper() {
         return MoreObjects.toStringHelper(Text.class)
                 .omitNullValues()
                 .add("format", this.format.isEmpty() ? null : this.format)
-                .add("children", this.children.isEmpty() ? null : this.children)
+                .add("children", this.children.isEmpty() ? null : this.getChildren())
                 .add("clickAction", this.clickAction.orElse(null))
                 .add("hoverAction", this.hoverAction.orElse(null))
                 .add("shiftClickAction", this.shiftClickAction.orElse(null));
@@ -369,7 +463,7 @@ public abstract static class Builder implements TextRepresentable {
          */
         Builder(Text text) {
             this.format = text.format;
-            this.children = new ArrayList<>(text.children);
+            this.children = new ArrayList<>(text.getChildren());
             this.clickAction = text.clickAction.orElse(null);
             this.hoverAction = text.hoverAction.orElse(null);
             this.shiftClickAction = text.shiftClickAction.orElse(null);
@@ -1269,4 +1363,33 @@ public static Text joinWith(Text separator, Iterator<? extends Text> texts) {
         return builder.build();
     }
 
+    /**
+     * An immutable linked list node holding the output of a
+     * {@link TextSerializer}.
+     */
+    private static final class SerializedForm {
+
+        final TextSerializer serializer;
+        final String output;
+        @Nullable final SerializedForm next;
+
+        SerializedForm(TextSerializer serializer, String output, @Nullable SerializedForm next) {
+            this.serializer = serializer;
+            this.output = output;
+            this.next = next;
+        }
+
+        @Nullable
+        SerializedForm limit(int size) {
+            if (size == 0) {
+                return null;
+            }
+            if (this.next == null) {
+                return this;
+            }
+            final SerializedForm next = this.next.limit(size - 1);
+            return next == this.next ? this : new SerializedForm(this.serializer, this.output, next);
+        }
+    }
+
 }
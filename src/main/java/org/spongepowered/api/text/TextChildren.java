@@ -0,0 +1,171 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+
+import javax.annotation.Nullable;
+
+/**
+ * The immutable children of a {@link Text}, stored as a persistent list that
+ * shares its structure with the children of the texts it was derived from.
+ *
+ * <p>The children are stored as a chain of small chunks, so appending a child
+ * through {@link Text#concat(Text)} only copies the last chunk instead of all
+ * children. The flat {@link ImmutableList} returned by
+ * {@link Text#getChildren()} is only built when it is first requested.</p>
+ */
+final class TextChildren implements Iterable<Text> {
+
+    static final TextChildren EMPTY = new TextChildren(null, ImmutableList.of());
+
+    /**
+     * The maximum size of a chunk that is copied when appending a child.
+     */
+    private static final int CHUNK_SIZE = 32;
+
+    /**
+     * Creates {@link TextChildren} holding the given children.
+     *
+     * @param children The children
+     * @return The text children
+     */
+    static TextChildren of(Collection<Text> children) {
+        return children.isEmpty() ? EMPTY : new TextChildren(null, ImmutableList.copyOf(children));
+    }
+
+    @Nullable private final TextChildren prefix;
+    private final ImmutableList<Text> chunk;
+    private final int size;
+    private final boolean cacheable;
+    @Nullable private volatile ImmutableList<Text> list;
+
+    private TextChildren(@Nullable TextChildren prefix, ImmutableList<Text> chunk) {
+        this.prefix = prefix;
+        this.chunk = chunk;
+        this.size = (prefix == null ? 0 : prefix.size) + chunk.size();
+        boolean cacheable = prefix == null || prefix.cacheable;
+        for (int i = 0; cacheable && i < chunk.size(); i++) {
+            cacheable = chunk.get(i).cacheable;
+        }
+        this.cacheable = cacheable;
+        if (prefix == null) {
+            this.list = chunk;
+        }
+    }
+
+    /**
+     * Gets the number of children.
+     *
+     * @return The number of children
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets whether there are no children.
+     *
+     * @return True if there are no children
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets whether all children can cache their serialized forms, see
+     * {@link Text#toSerialized(org.spongepowered.api.text.serializer.TextSerializer)}.
+     *
+     * @return True if all children are cacheable
+     */
+    boolean isCacheable() {
+        return this.cacheable;
+    }
+
+    /**
+     * Returns new {@link TextChildren} with the given child appended, sharing
+     * all but the last chunk with these children.
+     *
+     * @param child The child to append
+     * @return The new text children
+     */
+    TextChildren append(Text child) {
+        if (this.chunk.size() >= CHUNK_SIZE || this.prefix == null && !this.chunk.isEmpty()) {
+            return new TextChildren(this, ImmutableList.of(child));
+        }
+        return new TextChildren(this.prefix, ImmutableList.<Text>builder().addAll(this.chunk).add(child).build());
+    }
+
+    /**
+     * Gets the children as a flat {@link ImmutableList}, which is built once
+     * and cached.
+     *
+     * @return The children
+     */
+    ImmutableList<Text> toList() {
+        ImmutableList<Text> list = this.list;
+        if (list == null) {
+            final ImmutableList.Builder<Text> builder = ImmutableList.builder();
+            for (ImmutableList<Text> chunk : chunks()) {
+                builder.addAll(chunk);
+            }
+            this.list = list = builder.build();
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<Text> iterator() {
+        final ImmutableList<Text> list = this.list;
+        if (list != null) {
+            return list.iterator();
+        }
+        return Iterators.concat(Iterators.transform(chunks().iterator(), ImmutableList::iterator));
+    }
+
+    /**
+     * Collects the chunks in order, walking the chain iteratively so deep
+     * chains cannot overflow the stack.
+     */
+    private Deque<ImmutableList<Text>> chunks() {
+        final Deque<ImmutableList<Text>> chunks = new ArrayDeque<>();
+        for (TextChildren children = this; children != null; children = children.prefix) {
+            final ImmutableList<Text> list = children.list;
+            if (list != null) {
+                chunks.addFirst(list);
+                break;
+            }
+            chunks.addFirst(children.chunk);
+        }
+        return chunks;
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Measures the rendered width of {@link Text}s in pixels, for example to pad
+ * or center lines in the chat.
+ *
+ * <p>The widths are looked up in a per-character table, adding extra width
+ * for each bold character, including spaces, like the vanilla client. The
+ * width of each measured text is memoized, so measuring the same immutable
+ * text instance again is cheap. Texts containing scores, selectors or
+ * translations are measured again every time, since their content may
+ * change.</p>
+ */
+public final class TextMeasurer {
+
+    /**
+     * The width of the chat in pixels, with the default client settings.
+     */
+    public static final int CHAT_WIDTH = 320;
+
+    private static final TextMeasurer DEFAULT = builder()
+            .width(' ', 4)
+            .width('!', 2).width('"', 5).width('\'', 3).width('(', 5).width(')', 5).width('*', 5)
+            .width(',', 2).width('.', 2).width(':', 2).width(';', 2).width('<', 5).width('>', 5)
+            .width('@', 7).width('I', 4).width('[', 4).width(']', 4).width('`', 3).width('f', 5)
+            .width('i', 2).width('k', 5).width('l', 3).width('t', 4).width('{', 5).width('|', 2)
+            .width('}', 5).width('~', 7)
+            .build();
+
+    /**
+     * Gets the {@link TextMeasurer} for the default font of the vanilla
+     * client.
+     *
+     * @return The default text measurer
+     */
+    public static TextMeasurer getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new {@link Builder} to build a {@link TextMeasurer}.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final int[] widths;
+    private final int defaultWidth;
+    private final int boldExtraWidth;
+    private final Cache<Text, Integer> plainWidths;
+    private final Cache<Text, Integer> boldWidths;
+
+    TextMeasurer(int[] widths, int defaultWidth, int boldExtraWidth) {
+        this.widths = widths;
+        this.defaultWidth = defaultWidth;
+        this.boldExtraWidth = boldExtraWidth;
+        // Texts are compared by identity, they are immutable
+        this.plainWidths = CacheBuilder.newBuilder().weakKeys().maximumSize(4096).build();
+        this.boldWidths = CacheBuilder.newBuilder().weakKeys().maximumSize(4096).build();
+    }
+
+    /**
+     * Gets the width of the specified character.
+     *
+     * @param c The character
+     * @param bold Whether the character is bold
+     * @return The width in pixels
+     */
+    public int getWidth(char c, boolean bold) {
+        final int width = c < this.widths.length ? this.widths[c] : this.defaultWidth;
+        return bold ? width + this.boldExtraWidth : width;
+    }
+
+    /**
+     * Gets the width of the specified string.
+     *
+     * @param s The string
+     * @param bold Whether the string is bold
+     * @return The width in pixels
+     */
+    public int getWidth(String s, boolean bold) {
+        int width = 0;
+        for (int i = 0; i < s.length(); i++) {
+            width += getWidth(s.charAt(i), bold);
+        }
+        return width;
+    }
+
+    /**
+     * Gets the width of the specified {@link Text}, including its children.
+     *
+     * @param text The text
+     * @return The width in pixels
+     */
+    public int getWidth(Text text) {
+        return getWidth(text, false);
+    }
+
+    private int getWidth(Text text, boolean parentBold) {
+        final boolean bold = text.getStyle().isBold().orElse(parentBold);
+        final Cache<Text, Integer> cache = parentBold ? this.boldWidths : this.plainWidths;
+        // Texts with scores, selectors or translations may change their width
+        final Integer cached = text.cacheable ? cache.getIfPresent(text) : null;
+        if (cached != null) {
+            return cached;
+        }
+        int width = getWidth(text instanceof LiteralText ? ((LiteralText) text).getContent() : text.toPlainSingle(), bold);
+        for (Text child : text.children) {
+            width += getWidth(child, bold);
+        }
+        if (text.cacheable) {
+            cache.put(text, width);
+        }
+        return width;
+    }
+
+    /**
+     * Centers the specified {@link Text} within the specified width, by
+     * surrounding it with the padding repeated as often as it fits on both
+     * sides.
+     *
+     * @param text The text to center
+     * @param padding The padding to surround the text with
+     * @param width The width to center the text in, in pixels
+     * @return The centered text
+     */
+    public Text center(Text text, Text padding, int width) {
+        checkNotNull(text, "text");
+        checkNotNull(padding, "padding");
+        final int paddingWidth = getWidth(padding);
+        checkArgument(paddingWidth > 0, "The padding must not be empty");
+        final int count = (width - getWidth(text)) / 2 / paddingWidth;
+        if (count <= 0) {
+            return text;
+        }
+        final Text.Builder side = Text.builder();
+        for (int i = 0; i < count; i++) {
+            side.append(padding);
+        }
+        final Text sides = side.build();
+        return Text.of(sides, text, sides);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("defaultWidth", this.defaultWidth)
+                .add("boldExtraWidth", this.boldExtraWidth)
+                .toString();
+    }
+
+    /**
+     * Represents a builder class to create a {@link TextMeasurer}.
+     *
+     * @see TextMeasurer
+     */
+    public static final class Builder {
+
+        int[] widths = new int[0];
+        int defaultWidth = 6;
+        int boldExtraWidth = 1;
+
+        Builder() {
+        }
+
+        /**
+         * Sets the width of the specified character, including the spacing
+         * to the next character.
+         *
+         * @param c The character
+         * @param width The width in pixels
+         * @return This builder
+         */
+        public Builder width(char c, int width) {
+            checkArgument(width >= 0, "width must not be negative");
+            if (c >= this.widths.length) {
+                final int oldLength = this.widths.length;
+                this.widths = Arrays.copyOf(this.widths, c + 1);
+                Arrays.fill(this.widths, oldLength, c, -1);
+            }
+            this.widths[c] = width;
+            return this;
+        }
+
+        /**
+         * Sets the width of all characters that have no specific width,
+         * including the spacing to the next character. Defaults to 6.
+         *
+         * @param width The width in pixels
+         * @return This builder
+         */
+        public Builder defaultWidth(int width) {
+            checkArgument(width >= 0, "width must not be negative");
+            this.defaultWidth = width;
+            return this;
+        }
+
+        /**
+         * Sets the width added to each bold character, including spaces.
+         * Defaults to 1.
+         *
+         * @param width The width in pixels
+         * @return This builder
+         */
+        public Builder boldExtraWidth(int width) {
+            checkArgument(width >= 0, "width must not be negative");
+            this.boldExtraWidth = width;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link TextMeasurer} from the widths set in this
+         * builder.
+         *
+         * @return The new text measurer
+         */
+        public TextMeasurer build() {
+            final int[] widths = this.widths.clone();
+            for (int i = 0; i < widths.length; i++) {
+                if (widths[i] == -1) {
+                    widths[i] = this.defaultWidth;
+                }
+            }
+            return new TextMeasurer(widths, this.defaultWidth, this.boldExtraWidth);
+        }
+
+    }
+
+}
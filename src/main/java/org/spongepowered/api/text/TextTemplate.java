@@ -36,6 +36,8 @@
 import org.spongepowered.api.text.format.TextColor;
 import org.spongepowered.api.text.format.TextFormat;
 import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.serializer.TextSerializer;
+import org.spongepowered.api.text.serializer.TextSerializers;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -164,6 +166,20 @@ public TextTemplate concat(TextTemplate other) {
         return of(this.openArg, this.closeArg, elements.toArray(new Object[elements.size()]));
     }
 
+    /**
+     * Compiles this TextTemplate into a {@link Compiled} template, which
+     * applies parameters by their position instead of by their name.
+     *
+     * <p>Compiled templates resolve the arguments to positional slots and
+     * convert the constant elements into texts once, which makes them suited
+     * for templates that are applied very frequently.</p>
+     *
+     * @return The compiled template
+     */
+    public Compiled compile() {
+        return new Compiled(this);
+    }
+
     /**
      * Applies an empty map of parameters to this TextTemplate and returns the
      * result in a {@link Text.Builder}.
@@ -606,4 +622,192 @@ public String toString() {
         }
     }
 
+    /**
+     * A {@link TextTemplate} compiled for repeated application, see
+     * {@link #compile()}.
+     *
+     * <p>Parameters are supplied positionally, in the order of
+     * {@link #getSlotNames()}. A {@code null} parameter is treated like a
+     * missing parameter in {@link TextTemplate#apply(Map)}.</p>
+     */
+    public static final class Compiled {
+
+        private final TextTemplate template;
+        // Per element the Arg, constant Text or constant TextElement
+        private final Object[] elements;
+        // Per element the slot of the parameter, or -1 for constants
+        private final int[] slots;
+        private final ImmutableList<String> slotNames;
+        private final ImmutableMap<String, Integer> slotIndices;
+        // Whether the elements can be serialized independently
+        private final boolean spliceable;
+
+        Compiled(TextTemplate template) {
+            this.template = template;
+            final int size = template.elements.size();
+            this.elements = new Object[size];
+            this.slots = new int[size];
+            final Map<String, Integer> slotIndices = new HashMap<>();
+            final List<String> slotNames = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                final Object element = template.elements.get(i);
+                if (element instanceof Arg) {
+                    this.slots[i] = slotIndices.computeIfAbsent(((Arg) element).name, name -> {
+                        slotNames.add(name);
+                        return slotNames.size() - 1;
+                    });
+                    this.elements[i] = element;
+                } else {
+                    this.slots[i] = -1;
+                    this.elements[i] = element instanceof Text || element instanceof TextElement ? element : Text.of(element.toString());
+                }
+            }
+            this.slotNames = ImmutableList.copyOf(slotNames);
+            this.slotIndices = ImmutableMap.copyOf(slotIndices);
+            this.spliceable = isSpliceable(this.elements);
+        }
+
+        private static boolean isSpliceable(Object[] elements) {
+            // The result must always be rooted in an empty builder, which is
+            // only guaranteed if the first element always produces a value
+            if (elements.length == 0 || !(elements[0] instanceof Arg)) {
+                return false;
+            }
+            final Arg first = (Arg) elements[0];
+            if (first.optional && first.defaultValue == null) {
+                return false;
+            }
+            for (Object element : elements) {
+                if (!(element instanceof Arg) && !(element instanceof Text)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the {@link TextTemplate} this template was compiled from.
+         *
+         * @return The source template
+         */
+        public TextTemplate getTemplate() {
+            return this.template;
+        }
+
+        /**
+         * Returns the names of the arguments of this template, in the order
+         * their parameters are supplied to {@link #apply(Object...)}.
+         *
+         * @return The argument names
+         */
+        public List<String> getSlotNames() {
+            return this.slotNames;
+        }
+
+        /**
+         * Returns the position of the parameter for the argument with the
+         * given name.
+         *
+         * @param name The argument name
+         * @return The position of the parameter
+         * @throws IllegalArgumentException If there is no argument with the
+         *     given name
+         */
+        public int getSlot(String name) {
+            final Integer slot = this.slotIndices.get(checkNotNull(name, "name"));
+            checkArgument(slot != null, "There is no argument named \"%s\"", name);
+            return slot;
+        }
+
+        /**
+         * Applies the specified positional parameters to this template and
+         * returns the resulting {@link Text}. The result is equal to the
+         * result of {@link TextTemplate#apply(Map)} with the same parameters
+         * by name.
+         *
+         * @param params The parameters, in the order of the slots
+         * @return The resulting text
+         * @throws TextTemplateArgumentException if required parameters are
+         *     missing
+         */
+        public Text apply(Object... params) {
+            checkParams(params);
+            Text.Builder builder = null;
+            for (int i = 0; i < this.slots.length; i++) {
+                final int slot = this.slots[i];
+                if (slot == -1) {
+                    builder = this.template.apply(this.elements[i], builder);
+                    continue;
+                }
+                final Arg arg = (Arg) this.elements[i];
+                final Object param = resolve(arg, params[slot]);
+                if (param != null) {
+                    builder = this.template.applyArg(param, arg, builder);
+                }
+            }
+            return builder == null ? Text.EMPTY : builder.build();
+        }
+
+        /**
+         * Applies the specified positional parameters to this template and
+         * returns the result serialized by the given {@link TextSerializer}.
+         *
+         * <p>For the {@link TextSerializers#JSON JSON} serializer, templates
+         * starting with a required argument and consisting only of arguments
+         * and texts are serialized element by element without building the
+         * whole resulting {@link Text}, reusing the cached serialized forms of
+         * the constant elements. The result is equivalent to serializing
+         * {@link #apply(Object...)}.</p>
+         *
+         * @param serializer The serializer to use
+         * @param params The parameters, in the order of the slots
+         * @return The serialized result
+         * @throws TextTemplateArgumentException if required parameters are
+         *     missing
+         */
+        public String applySerialized(TextSerializer serializer, Object... params) {
+            checkNotNull(serializer, "serializer");
+            if (!this.spliceable || serializer != TextSerializers.JSON) {
+                return apply(params).toSerialized(serializer);
+            }
+            checkParams(params);
+            final StringBuilder json = new StringBuilder("{\"text\":\"\"");
+            boolean first = true;
+            for (int i = 0; i < this.slots.length; i++) {
+                final int slot = this.slots[i];
+                final Text element;
+                if (slot == -1) {
+                    element = (Text) this.elements[i];
+                } else {
+                    final Arg arg = (Arg) this.elements[i];
+                    final Object param = resolve(arg, params[slot]);
+                    if (param == null) {
+                        continue;
+                    }
+                    final Text.Builder wrapper = Text.builder().format(arg.format);
+                    this.template.apply(param, wrapper);
+                    element = wrapper.build();
+                }
+                json.append(first ? ",\"extra\":[" : ",").append(element.toSerialized(serializer));
+                first = false;
+            }
+            return json.append(first ? "}" : "]}").toString();
+        }
+
+        private void checkParams(Object[] params) {
+            checkNotNull(params, "params");
+            checkArgument(params.length == this.slotNames.size(), "Expected %s parameters but got %s", this.slotNames.size(), params.length);
+        }
+
+        @Nullable
+        private Object resolve(Arg arg, @Nullable Object param) {
+            if (param != null) {
+                return param;
+            }
+            arg.checkOptional();
+            return arg.defaultValue;
+        }
+
+    }
+
 }
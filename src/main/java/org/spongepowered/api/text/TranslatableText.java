@@ -63,7 +63,7 @@ public final class TranslatableText extends Text {
      * translation with the specified formatting and text actions applied.
      *
      * @param format The format of the text
-     * @param children The immutable list of children of the text
+     * @param children The immutable children of the text
      * @param clickAction The click action of the text, or {@code null} for none
      * @param hoverAction The hover action of the text, or {@code null} for none
      * @param shiftClickAction The shift click action of the text, or
@@ -71,7 +71,7 @@ public final class TranslatableText extends Text {
      * @param translation The translation of the text
      * @param arguments The arguments for the translation
      */
-    TranslatableText(TextFormat format, ImmutableList<Text> children, @Nullable ClickAction<?> clickAction,
+    TranslatableText(TextFormat format, TextChildren children, @Nullable ClickAction<?> clickAction,
             @Nullable HoverAction<?> hoverAction, @Nullable ShiftClickAction<?> shiftClickAction, Translation translation,
             ImmutableList<Object> arguments) {
         super(format, children, clickAction, hoverAction, shiftClickAction);
@@ -103,6 +103,12 @@ public Builder toBuilder() {
         return new Builder(this);
     }
 
+    @Override
+    TranslatableText copyWithChildren(TextChildren children) {
+        return new TranslatableText(this.format, children, this.clickAction.orElse(null), this.hoverAction.orElse(null),
+                this.shiftClickAction.orElse(null), this.translation, this.arguments);
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) {
@@ -118,8 +124,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.translation, this.arguments);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.translation, this.arguments);
     }
 
     @Override
@@ -250,7 +256,7 @@ public Builder translation(org.spongepowered.api.text.translation.Translatable t
         public TranslatableText build() {
             return new TranslatableText(
                     this.format,
-                    ImmutableList.copyOf(this.children),
+                    TextChildren.of(this.children),
                     this.clickAction,
                     this.hoverAction,
                     this.shiftClickAction,
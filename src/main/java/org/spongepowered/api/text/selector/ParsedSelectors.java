@@ -0,0 +1,76 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.selector;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.annotation.Nullable;
+
+/**
+ * A bounded cache of the {@link Selector}s parsed by
+ * {@link Selector#parse(String)}. Selectors are immutable, so the same
+ * instance can be returned for every parse of the same string, for example
+ * by command blocks running every tick.
+ *
+ * <p>The cache belongs to the {@link SelectorFactory} that parsed the
+ * selectors, it is discarded once the registry provides a different
+ * factory.</p>
+ */
+final class ParsedSelectors {
+
+    @Nullable private static volatile ParsedSelectors current;
+
+    static Selector parse(String selector) {
+        checkNotNull(selector, "selector");
+        final SelectorFactory factory = ArgumentTypes.getFactory();
+        ParsedSelectors parsed = current;
+        if (parsed == null || parsed.factory != factory) {
+            current = parsed = new ParsedSelectors(factory);
+        }
+        return parsed.get(selector);
+    }
+
+    private final SelectorFactory factory;
+    private final Cache<String, Selector> cache = CacheBuilder.newBuilder()
+            .maximumSize(1024)
+            .build();
+
+    private ParsedSelectors(SelectorFactory factory) {
+        this.factory = factory;
+    }
+
+    private Selector get(String selector) {
+        Selector parsed = this.cache.getIfPresent(selector);
+        if (parsed == null) {
+            parsed = this.factory.parseRawSelector(selector);
+            this.cache.put(selector, parsed);
+        }
+        return parsed;
+    }
+
+}
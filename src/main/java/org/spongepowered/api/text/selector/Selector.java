@@ -37,10 +37,20 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Represents an immutable selector of targets, as used in commands.
  *
+ * <p>Implementations are expected to plan the evaluation of the arguments by
+ * their selectivity: Candidates should be narrowed down by the
+ * {@link ArgumentTypes#ENTITY_TYPE type} and the
+ * {@link ArgumentTypes#RADIUS radius} or volume first, using the type and
+ * spatial indexes of the extents, before the remaining arguments are tested.
+ * If the {@link ArgumentTypes#COUNT count} does not require the candidates
+ * to be sorted, the evaluation should stop once enough targets were
+ * found.</p>
+ *
  * <p>
  * In Vanilla, selectors are mostly represented as plain text, starting with an
  * {@code @} symbol and followed by a single character signifying the type, and
@@ -69,11 +79,14 @@ static Builder builder() {
     /**
      * Parses a {@link Selector} from the given selector string.
      *
+     * <p>Recently parsed selectors are cached, so parsing the same string
+     * repeatedly may return the same immutable selector instance.</p>
+     *
      * @param selector The raw selector string
-     * @return A new selector containing the given selector data
+     * @return A selector containing the given selector data
      */
     static Selector parse(String selector) {
-        return getFactory().parseRawSelector(selector);
+        return ParsedSelectors.parse(selector);
     }
 
     /**
@@ -199,6 +212,51 @@ static List<String> complete(String selector) {
      */
     Set<Entity> resolve(Location<World> location);
 
+    /**
+     * Resolves this {@link Selector} around the origin and passes each matched
+     * entity to the given consumer, without collecting them into a set.
+     *
+     * <p>The entities are passed in the same order as they would be returned
+     * by {@link #resolve(CommandSource)}.</p>
+     *
+     * @param origin The source that should be considered the origin of this
+     *        selector
+     * @param consumer The consumer to pass the matched entities to
+     */
+    default void resolve(CommandSource origin, Consumer<? super Entity> consumer) {
+        resolve(origin).forEach(consumer);
+    }
+
+    /**
+     * Resolves this {@link Selector} around (0|0|0) in the given
+     * {@link Extent Extent(s)} and passes each matched entity to the given
+     * consumer, without collecting them into a set.
+     *
+     * <p>The entities are passed in the same order as they would be returned
+     * by {@link #resolve(Collection)}.</p>
+     *
+     * @param extent The extents to search for targets
+     * @param consumer The consumer to pass the matched entities to
+     */
+    default void resolve(Collection<? extends Extent> extent, Consumer<? super Entity> consumer) {
+        resolve(extent).forEach(consumer);
+    }
+
+    /**
+     * Resolves this {@link Selector} around the given {@link Location} and
+     * passes each matched entity to the given consumer, without collecting
+     * them into a set.
+     *
+     * <p>The entities are passed in the same order as they would be returned
+     * by {@link #resolve(Location)}.</p>
+     *
+     * @param location The location to resolve the selector around
+     * @param consumer The consumer to pass the matched entities to
+     */
+    default void resolve(Location<World> location, Consumer<? super Entity> consumer) {
+        resolve(location).forEach(consumer);
+    }
+
     /**
      * Resolves this {@link Selector} to a list of entities around the origin.
      *
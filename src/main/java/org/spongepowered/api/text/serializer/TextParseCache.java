@@ -0,0 +1,289 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.serializer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.spongepowered.api.text.Text;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A bounded, concurrent cache of the {@link Text}s parsed from strings by
+ * {@link TextSerializer}s, keyed by the serializer and the input string.
+ *
+ * <p>Parsing the same input repeatedly, for example messages loaded from a
+ * configuration file, can be avoided by deserializing through this cache or
+ * through a serializer returned by {@link #wrap(TextSerializer)}. Since texts
+ * are immutable, the cached instances are shared between all callers.
+ * Inputs that fail to parse are not cached.</p>
+ */
+public final class TextParseCache {
+
+    /**
+     * Creates a new {@link TextParseCache} holding at most the specified
+     * number of parsed texts.
+     *
+     * @param maximumSize The maximum number of cached texts
+     * @return The new cache
+     */
+    public static TextParseCache create(long maximumSize) {
+        checkArgument(maximumSize > 0, "maximumSize must be positive");
+        return new TextParseCache(maximumSize);
+    }
+
+    private final Cache<Key, Text> cache;
+
+    private TextParseCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the {@link Text} parsed from the input by the given
+     * {@link TextSerializer}, using {@link TextSerializer#deserialize(String)}
+     * if it is not cached yet.
+     *
+     * @param serializer The serializer to parse the input with
+     * @param input The raw input to parse into a text
+     * @return The parsed text for the input string
+     * @throws TextParseException If an error occurs while parsing the text
+     */
+    public Text deserialize(TextSerializer serializer, String input) throws TextParseException {
+        return get(new Key(serializer, input, false), () -> serializer.deserialize(input));
+    }
+
+    /**
+     * Returns the {@link Text} parsed from the input by the given
+     * {@link TextSerializer}, using
+     * {@link TextSerializer#deserializeUnchecked(String)} if it is not cached
+     * yet.
+     *
+     * @param serializer The serializer to parse the input with
+     * @param input The raw input to try to parse into a text
+     * @return The parsed text for the input string, or the raw input
+     */
+    public Text deserializeUnchecked(TextSerializer serializer, String input) {
+        return get(new Key(serializer, input, true), () -> serializer.deserializeUnchecked(input));
+    }
+
+    private Text get(Key key, Callable<Text> parser) {
+        try {
+            // Concurrent misses for the same key wait for a single parse
+            return this.cache.get(key, parser);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new TextParseException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns a {@link TextSerializer} that delegates to the given serializer
+     * but parses strings through this cache.
+     *
+     * @param serializer The serializer to wrap
+     * @return The caching serializer
+     */
+    public TextSerializer wrap(TextSerializer serializer) {
+        return new CachingTextSerializer<>(this, checkNotNull(serializer, "serializer"));
+    }
+
+    /**
+     * Returns a {@link FormattingCodeTextSerializer} that delegates to the
+     * given serializer but parses strings through this cache.
+     *
+     * @param serializer The serializer to wrap
+     * @return The caching serializer
+     */
+    public FormattingCodeTextSerializer wrap(FormattingCodeTextSerializer serializer) {
+        return new CachingFormattingCodeTextSerializer(this, checkNotNull(serializer, "serializer"));
+    }
+
+    /**
+     * Returns the number of texts currently held by this cache.
+     *
+     * @return The number of cached texts
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Returns the hit and miss statistics of this cache.
+     *
+     * @return The cache statistics
+     */
+    public CacheStats getStats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * Removes all parsed texts from this cache.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("size", size())
+                .add("stats", getStats())
+                .toString();
+    }
+
+    private static final class Key {
+
+        private final TextSerializer serializer;
+        private final String input;
+        private final boolean unchecked;
+
+        Key(TextSerializer serializer, String input, boolean unchecked) {
+            this.serializer = checkNotNull(serializer, "serializer");
+            this.input = checkNotNull(input, "input");
+            this.unchecked = unchecked;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return this.serializer.equals(that.serializer) && this.input.equals(that.input) && this.unchecked == that.unchecked;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.serializer, this.input, this.unchecked);
+        }
+
+    }
+
+    private static class CachingTextSerializer<T extends TextSerializer> implements TextSerializer {
+
+        final TextParseCache cache;
+        final T delegate;
+
+        CachingTextSerializer(TextParseCache cache, T delegate) {
+            this.cache = cache;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getId() {
+            return this.delegate.getId();
+        }
+
+        @Override
+        public String getName() {
+            return this.delegate.getName();
+        }
+
+        @Override
+        public String serialize(Text text) {
+            return this.delegate.serialize(text);
+        }
+
+        @Override
+        public void serialize(Text text, Appendable output) throws IOException {
+            this.delegate.serialize(text, output);
+        }
+
+        @Override
+        public String serializeSingle(Text text) {
+            return this.delegate.serializeSingle(text);
+        }
+
+        @Override
+        public Text deserialize(String input) throws TextParseException {
+            return this.cache.deserialize(this.delegate, input);
+        }
+
+        @Override
+        public Text deserializeUnchecked(String input) {
+            return this.cache.deserializeUnchecked(this.delegate, input);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("delegate", this.delegate)
+                    .toString();
+        }
+
+    }
+
+    private static final class CachingFormattingCodeTextSerializer extends CachingTextSerializer<FormattingCodeTextSerializer>
+            implements FormattingCodeTextSerializer {
+
+        CachingFormattingCodeTextSerializer(TextParseCache cache, FormattingCodeTextSerializer delegate) {
+            super(cache, delegate);
+        }
+
+        @Override
+        public Text deserialize(String input) {
+            return super.deserialize(input);
+        }
+
+        @Override
+        public Text deserializeUnchecked(String input) {
+            return super.deserializeUnchecked(input);
+        }
+
+        @Override
+        public char getCharacter() {
+            return this.delegate.getCharacter();
+        }
+
+        @Override
+        public String stripCodes(String text) {
+            return this.delegate.stripCodes(text);
+        }
+
+        @Override
+        public String replaceCodes(String text, char to) {
+            return this.delegate.replaceCodes(text, to);
+        }
+
+    }
+
+}
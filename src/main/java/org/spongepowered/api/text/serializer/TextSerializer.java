@@ -26,9 +26,16 @@
 
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.GameRegistry;
+import org.spongepowered.api.network.ChannelBuf;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.util.annotation.CatalogedBy;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Represents a serializer for {@link Text} instances that converts an input
  * string into a formatted {@link Text} instance, or a {@link Text} instance
@@ -50,6 +57,62 @@ public interface TextSerializer extends CatalogType {
      */
     String serialize(Text text);
 
+    /**
+     * Writes the string representation of the provided {@link Text} to the
+     * given {@link Appendable}, as returned by {@link #serialize(Text)}.
+     *
+     * <p>Implementations should override this method to write the output
+     * directly, without building the whole string representation first.</p>
+     *
+     * @param text The text to serialize
+     * @param output The appendable to write the string representation to
+     * @throws IOException If an error occurs while writing to the output
+     */
+    default void serialize(Text text, Appendable output) throws IOException {
+        output.append(text.toSerialized(this));
+    }
+
+    /**
+     * Writes the string representation of the provided {@link Text} encoded
+     * as UTF-8 to the given {@link ByteBuffer}, starting at its current
+     * position.
+     *
+     * @param text The text to serialize
+     * @param output The buffer to write the UTF-8 bytes to
+     * @throws java.nio.BufferOverflowException If there is not enough space
+     *     remaining in the buffer
+     */
+    default void serialize(Text text, ByteBuffer output) {
+        final Utf8Appendable appendable = Utf8Appendable.of(output);
+        try {
+            serialize(text, appendable);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        appendable.finish();
+    }
+
+    /**
+     * Writes the string representation of the provided {@link Text} encoded
+     * as UTF-8 to the given {@link ChannelBuf}, starting at its current
+     * writerIndex.
+     *
+     * <p>Unlike {@link ChannelBuf#writeString(String)}, the bytes are not
+     * prefixed with their length.</p>
+     *
+     * @param text The text to serialize
+     * @param output The buffer to write the UTF-8 bytes to
+     */
+    default void serialize(Text text, ChannelBuf output) {
+        final Utf8Appendable appendable = Utf8Appendable.of(output);
+        try {
+            serialize(text, appendable);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        appendable.finish();
+    }
+
     /**
      * Returns a string representation of only the provided {@link Text}
      * (without any children) in a format that will be accepted by this
@@ -71,6 +134,41 @@ default String serializeSingle(Text text) {
      */
     Text deserialize(String input) throws TextParseException;
 
+    /**
+     * Returns a {@link Text} instance from appropriately formatted input read
+     * from the given {@link Reader}. The reader is not closed.
+     *
+     * <p>Implementations should override this method to parse the input
+     * incrementally, without reading the whole input into a string
+     * first.</p>
+     *
+     * @param input The reader to read the raw input from
+     * @return The parsed text for the input
+     * @throws TextParseException If an error occurs while parsing the text
+     * @throws IOException If an error occurs while reading the input
+     */
+    default Text deserialize(Reader input) throws TextParseException, IOException {
+        final StringBuilder builder = new StringBuilder();
+        final char[] buffer = new char[1024];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            builder.append(buffer, 0, read);
+        }
+        return deserialize(builder.toString());
+    }
+
+    /**
+     * Returns a {@link Text} instance from appropriately formatted UTF-8
+     * input, read from the remaining bytes of the given {@link ByteBuffer}.
+     *
+     * @param input The buffer to read the UTF-8 bytes from
+     * @return The parsed text for the input
+     * @throws TextParseException If an error occurs while parsing the text
+     */
+    default Text deserialize(ByteBuffer input) throws TextParseException {
+        return deserialize(StandardCharsets.UTF_8.decode(input).toString());
+    }
+
     /**
      * Tries to return a {@link Text} instance from the provided input string.
      * However, if the input string is not of a valid format, the returned
@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.serializer;
+
+import org.spongepowered.api.network.ChannelBuf;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link Appendable} that encodes the appended characters as UTF-8 and
+ * writes the bytes directly to a {@link ByteBuffer} or {@link ChannelBuf}.
+ *
+ * <p>Unpaired surrogates are encoded as {@code '?'}, consistent with
+ * {@link String#getBytes(java.nio.charset.Charset)}. {@link #finish()} must
+ * be called after the last character was appended.</p>
+ */
+abstract class Utf8Appendable implements Appendable {
+
+    static Utf8Appendable of(ByteBuffer buffer) {
+        return new Utf8Appendable() {
+            @Override
+            void write(byte b) {
+                buffer.put(b);
+            }
+
+            @Override
+            void flush() {
+            }
+        };
+    }
+
+    static Utf8Appendable of(ChannelBuf buf) {
+        return new Utf8Appendable() {
+            private final byte[] chunk = new byte[256];
+            private int length;
+
+            @Override
+            void write(byte b) {
+                if (this.length == this.chunk.length) {
+                    flush();
+                }
+                this.chunk[this.length++] = b;
+            }
+
+            @Override
+            void flush() {
+                if (this.length != 0) {
+                    buf.writeBytes(this.chunk, 0, this.length);
+                    this.length = 0;
+                }
+            }
+        };
+    }
+
+    private char highSurrogate;
+
+    abstract void write(byte b);
+
+    abstract void flush();
+
+    @Override
+    public Utf8Appendable append(CharSequence csq) {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Utf8Appendable append(CharSequence csq, int start, int end) {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Utf8Appendable append(char c) {
+        if (this.highSurrogate != 0) {
+            final char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(high, c);
+                write((byte) (0xF0 | codePoint >> 18));
+                write((byte) (0x80 | codePoint >> 12 & 0x3F));
+                write((byte) (0x80 | codePoint >> 6 & 0x3F));
+                write((byte) (0x80 | codePoint & 0x3F));
+                return this;
+            }
+            write((byte) '?');
+        }
+        if (c < 0x80) {
+            write((byte) c);
+        } else if (c < 0x800) {
+            write((byte) (0xC0 | c >> 6));
+            write((byte) (0x80 | c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            write((byte) '?');
+        } else {
+            write((byte) (0xE0 | c >> 12));
+            write((byte) (0x80 | c >> 6 & 0x3F));
+            write((byte) (0x80 | c & 0x3F));
+        }
+        return this;
+    }
+
+    /**
+     * Encodes a trailing unpaired surrogate and flushes any pending bytes.
+     */
+    void finish() {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+            write((byte) '?');
+        }
+        flush();
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link String#format(Locale, String, Object...)} pattern that has been
+ * parsed once, so it can be applied without parsing it again.
+ *
+ * <p>Only the plain {@code %s}, {@code %n$s}, {@code %%} and {@code %n}
+ * conversions are compiled. Patterns using any other conversion, flags or
+ * widths, and arguments that are {@link Formattable} or missing, are passed
+ * to {@link String#format(Locale, String, Object...)} unchanged, so the
+ * results and exceptions are always identical.</p>
+ */
+final class CompiledFormat {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    static CompiledFormat compile(String pattern) {
+        final List<Object> parts = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int ordinary = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i++);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            if (i == pattern.length()) {
+                return new CompiledFormat(pattern, null);
+            }
+            int index = -1;
+            int end = i;
+            while (end < pattern.length() && Character.isDigit(pattern.charAt(end))) {
+                end++;
+            }
+            if (end > i && end < pattern.length() && pattern.charAt(end) == '$' && pattern.charAt(i) != '0') {
+                try {
+                    index = Integer.parseInt(pattern.substring(i, end)) - 1;
+                } catch (NumberFormatException e) {
+                    return new CompiledFormat(pattern, null);
+                }
+                i = end + 1;
+            }
+            if (i == pattern.length()) {
+                return new CompiledFormat(pattern, null);
+            }
+            final char conversion = pattern.charAt(i++);
+            if (conversion == 's') {
+                if (literal.length() != 0) {
+                    parts.add(literal.toString());
+                    literal.setLength(0);
+                }
+                parts.add(index == -1 ? ordinary++ : index);
+            } else if (index == -1 && conversion == '%') {
+                literal.append('%');
+            } else if (index == -1 && conversion == 'n') {
+                literal.append(LINE_SEPARATOR);
+            } else {
+                return new CompiledFormat(pattern, null);
+            }
+        }
+        if (literal.length() != 0) {
+            parts.add(literal.toString());
+        }
+        return new CompiledFormat(pattern, parts.toArray());
+    }
+
+    private final String pattern;
+    // Literal strings and argument indices, or null if not compiled
+    @Nullable private final Object[] parts;
+
+    private CompiledFormat(String pattern, @Nullable Object[] parts) {
+        this.pattern = pattern;
+        this.parts = parts;
+    }
+
+    String getPattern() {
+        return this.pattern;
+    }
+
+    String format(Locale locale, @Nullable Object... args) {
+        if (this.parts == null || args == null) {
+            return String.format(locale, this.pattern, args);
+        }
+        final StringBuilder builder = new StringBuilder(this.pattern.length() + 16 * args.length);
+        for (Object part : this.parts) {
+            if (part instanceof String) {
+                builder.append((String) part);
+                continue;
+            }
+            final int index = (Integer) part;
+            if (index >= args.length || args[index] instanceof Formattable) {
+                return String.format(locale, this.pattern, args);
+            }
+            builder.append(args[index]);
+        }
+        return builder.toString();
+    }
+
+}
@@ -27,8 +27,10 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -48,11 +50,17 @@
  * <br />&nbsp; &nbsp; &nbsp; &nbsp; return Texts.of(new
  * ResourceBundleTranslation(key, LOOKUP_FUNC), args);<br />&nbsp; &nbsp; }
  * <br />}</code></blockquote>
+ *
+ * <p>The translated format of each locale is resolved from the bundle and
+ * compiled once and cached by the translation, so bundles are expected not
+ * to change their contents. {@link #clearCache()} discards the cached formats
+ * after reloading the bundles.</p>
  */
 public class ResourceBundleTranslation implements Translation {
 
     private final String key;
     private final Function<Locale, ResourceBundle> bundleFunction;
+    private final Map<Locale, CompiledFormat> formats = new ConcurrentHashMap<>();
 
     /**
      * Create a ResourceBundle-backed translation for the given key and bundle
@@ -73,7 +81,33 @@ public String getId() {
 
     @Override
     public String get(Locale locale) {
+        return getFormat(locale).getPattern();
+    }
+
+    @Override
+    public String get(Locale locale, Object... args) {
+        return getFormat(locale).format(locale, args);
+    }
+
+    /**
+     * Discards the translated formats cached by this translation, so they
+     * are resolved from the bundle function again.
+     */
+    public void clearCache() {
+        this.formats.clear();
+    }
+
+    private CompiledFormat getFormat(Locale locale) {
         checkNotNull(locale, "locale");
+        CompiledFormat format = this.formats.get(locale);
+        if (format == null) {
+            format = CompiledFormat.compile(lookup(locale));
+            this.formats.put(locale, format);
+        }
+        return format;
+    }
+
+    private String lookup(Locale locale) {
         try {
             ResourceBundle bundle = this.bundleFunction.apply(locale);
             return bundle == null ? this.key : bundle.getString(this.key);
@@ -81,9 +115,4 @@ public String get(Locale locale) {
             return this.key;
         }
     }
-
-    @Override
-    public String get(Locale locale, Object... args) {
-        return String.format(locale, get(locale), args);
-    }
 }
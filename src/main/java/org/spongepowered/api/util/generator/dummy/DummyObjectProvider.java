@@ -27,8 +27,10 @@
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.spongepowered.api.CatalogType;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 /**
@@ -41,12 +43,14 @@ public final class DummyObjectProvider {
 
     static final DummyClassGeneratorProvider factoryProvider = new DummyClassGeneratorProvider("org.spongepowered.api.util.dummy");
 
-    private static final LoadingCache<Class<?>, Class<?>> factories = CacheBuilder.newBuilder().build(
-            new CacheLoader<Class<?>, Class<?>>() {
+    private static final LoadingCache<Class<?>, Constructor<?>> factories = CacheBuilder.newBuilder().build(
+            new CacheLoader<Class<?>, Constructor<?>>() {
 
                 @Override
-                public Class<?> load(Class<?> type) {
-                    return factoryProvider.create(type, UnsupportedOperationException.class);
+                public Constructor<?> load(Class<?> type) throws NoSuchMethodException {
+                    // The dummy class is generated once per interface, resolving its
+                    // constructor here spares a reflective lookup per catalog field
+                    return factoryProvider.create(type, UnsupportedOperationException.class).getConstructor(String.class);
                 }
             });
 
@@ -60,11 +64,7 @@ public Class<?> load(Class<?> type) {
      */
     @SuppressWarnings("unchecked")
     public static <T> T createFor(Class<T> type, String fieldName) {
-        try {
-            return (T) factories.getUnchecked(type).getConstructor(String.class).newInstance(fieldName);
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            throw new RuntimeException(String.format("Failed to instantiate dummy class for class %s", type), e);
-        }
+        return (T) instantiate(type, fieldName);
     }
 
     /**
@@ -78,9 +78,25 @@ public static <T> T createFor(Class<T> type, String fieldName) {
      */
     @SuppressWarnings("unchecked")
     public static <T, I extends T> I createExtendedFor(Class<T> type, String fieldName) {
+        return (I) instantiate(type, fieldName);
+    }
+
+    /**
+     * Generates the dummy classes for the specified interfaces ahead of their
+     * first use. Classes that were already generated are reused.
+     *
+     * @param types The interfaces to generate dummy classes for
+     */
+    public static void prepare(Iterable<? extends Class<?>> types) {
+        for (Class<?> type : types) {
+            factories.getUnchecked(type);
+        }
+    }
+
+    private static Object instantiate(Class<?> type, String fieldName) {
         try {
-            return (I) factories.getUnchecked(type).getConstructor(String.class).newInstance(fieldName);
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
+            return factories.getUnchecked(type).newInstance(fieldName);
+        } catch (UncheckedExecutionException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
             throw new RuntimeException(String.format("Failed to instantiate dummy class for class %s", type), e);
         }
     }
@@ -0,0 +1,72 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import com.flowpowered.math.vector.Vector3i;
+
+/**
+ * The priority with which an asynchronous chunk load request is served.
+ *
+ * <p>Pending requests are served in order of their priority, starting with
+ * {@link #HIGHEST}. The order of requests which share the same priority is
+ * left to the implementation, which is encouraged to favour chunks close to
+ * players and chunks which were
+ * {@link ChunkTicketManager.LoadingTicket#prioritizeChunk(Vector3i)
+ * prioritized} by a loading ticket.</p>
+ *
+ * @see World#loadChunkAsync(Vector3i, boolean, ChunkLoadPriority)
+ */
+public enum ChunkLoadPriority {
+
+    /**
+     * For chunks which are needed immediately, for example the destination of
+     * a teleport.
+     */
+    HIGHEST,
+
+    /**
+     * For chunks which are needed soon, for example chunks in the view
+     * distance of a player.
+     */
+    HIGH,
+
+    /**
+     * The default priority for chunk load requests.
+     */
+    NORMAL,
+
+    /**
+     * For chunks which are not needed by players, for example chunks loaded by
+     * background tasks.
+     */
+    LOW,
+
+    /**
+     * For chunks which can be served whenever there is nothing else to do,
+     * for example chunk pre-generation.
+     */
+    LOWEST
+
+}
@@ -30,6 +30,7 @@
 import org.spongepowered.api.event.world.ChunkPreGenerationEvent;
 import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.util.ResettableBuilder;
+import org.spongepowered.api.world.gen.WorldGenerator;
 import org.spongepowered.api.world.storage.WorldProperties;
 
 import java.time.Duration;
@@ -176,6 +177,29 @@ interface Builder extends ResettableBuilder<ChunkPreGenerate, Builder> {
          */
         Builder tickPercentLimit(float tickPercent);
 
+        /**
+         * Sets the maximum number of worker threads that may be used to run
+         * the generation phase of chunks concurrently.
+         *
+         * <p>Worker threads are only used if the world generator of the
+         * target world is {@link WorldGenerator#isGenerationThreadSafe()
+         * thread safe}, otherwise chunks are generated on the main thread
+         * regardless of this setting. The population phase and the final
+         * attachment of chunks to the world always happen on the main thread,
+         * within the limits set by {@link #chunksPerTick(int)} and
+         * {@link #tickPercentLimit(float)}.</p>
+         *
+         * <p>Must be greater than 0.</p>
+         *
+         * <p>Optional.</p>
+         *
+         * <p>Default is 1.</p>
+         *
+         * @param parallelism The maximum number of worker threads
+         * @return This for chained calls
+         */
+        Builder parallelism(int parallelism);
+
         /**
          * Adds a {@link ChunkPreGenerationEvent} listener callback that will be
          * called for this, and only this, pre-generation routine. Note that
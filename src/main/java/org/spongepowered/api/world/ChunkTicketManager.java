@@ -263,6 +263,10 @@ interface LoadingTicket {
          * Reorders a chunk to count as the 'newest' loaded chunk, making it the
          * last chunk to be removed when adding more chunks for force-loading.
          *
+         * <p>If the chunk is still waiting in the chunk load queue of the
+         * world, it is additionally moved ahead of other pending requests of
+         * the same {@link ChunkLoadPriority}.</p>
+         *
          * @param chunk The chunk to reorder
          */
         void prioritizeChunk(Vector3i chunk);
@@ -47,6 +47,7 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -186,6 +187,9 @@ default Optional<Chunk> loadChunk(Vector3i chunkPosition, boolean shouldGenerate
      * main server thread. The {@link Future} will be called with the chunk once
      * the operation was completed.</p>
      *
+     * <p>The request is queued with {@link ChunkLoadPriority#NORMAL normal}
+     * priority.</p>
+     *
      * <p><b>Note:</b> If asynchronous chunk loading is not supported by
      * the implementation, the chunk will be loaded synchronously and the
      * {@link Future} will be called immediately.</p>
@@ -193,6 +197,7 @@ default Optional<Chunk> loadChunk(Vector3i chunkPosition, boolean shouldGenerate
      * @param chunkPosition The position
      * @param shouldGenerate True to generate a new chunk
      * @return The future callback for the loaded chunk
+     * @see #loadChunkAsync(int, int, int, boolean, ChunkLoadPriority)
      */
     default CompletableFuture<Optional<Chunk>> loadChunkAsync(Vector3i chunkPosition, boolean shouldGenerate) {
         return loadChunkAsync(chunkPosition.getX(), chunkPosition.getY(), chunkPosition.getZ(), shouldGenerate);
@@ -207,6 +212,9 @@ default CompletableFuture<Optional<Chunk>> loadChunkAsync(Vector3i chunkPosition
      * main server thread. The {@link Future} will be called with the chunk once
      * the operation was completed.</p>
      *
+     * <p>The request is queued with {@link ChunkLoadPriority#NORMAL normal}
+     * priority.</p>
+     *
      * <p><b>Note:</b> If asynchronous chunk loading is not supported by
      * the implementation, the chunk will be loaded synchronously and the
      * {@link Future} will be called immediately.</p>
@@ -216,11 +224,106 @@ default CompletableFuture<Optional<Chunk>> loadChunkAsync(Vector3i chunkPosition
      * @param cz The z coordinate
      * @param shouldGenerate True to generate a new chunk
      * @return The future callback for the loaded chunk
+     * @see #loadChunkAsync(int, int, int, boolean, ChunkLoadPriority)
      */
     default CompletableFuture<Optional<Chunk>> loadChunkAsync(int cx, int cy, int cz, boolean shouldGenerate) {
+        return loadChunkAsync(cx, cy, cz, shouldGenerate, ChunkLoadPriority.NORMAL);
+    }
+
+    /**
+     * Gets the chunk at the given chunk coordinate position if it exists or if
+     * {@code shouldGenerate} is true and the chunk is generated.
+     *
+     * <p>The request is placed in the chunk load queue of this world with the
+     * given {@link ChunkLoadPriority}.</p>
+     *
+     * @param chunkPosition The position
+     * @param shouldGenerate True to generate a new chunk
+     * @param priority The priority of the load request
+     * @return The future callback for the loaded chunk
+     * @see #loadChunkAsync(int, int, int, boolean, ChunkLoadPriority)
+     */
+    default CompletableFuture<Optional<Chunk>> loadChunkAsync(Vector3i chunkPosition, boolean shouldGenerate, ChunkLoadPriority priority) {
+        return loadChunkAsync(chunkPosition.getX(), chunkPosition.getY(), chunkPosition.getZ(), shouldGenerate, priority);
+    }
+
+    /**
+     * Gets the chunk at the given chunk coordinate position if it exists or if
+     * {@code shouldGenerate} is true and the chunk is generated.
+     *
+     * <p>The request is placed in the chunk load queue of this world with the
+     * given {@link ChunkLoadPriority}. Reading the chunk from the region file
+     * and deserializing it happens off the main server thread, only the final
+     * attachment of the chunk to the world is performed on the main thread.
+     * The {@link Future} is completed on the main thread once the chunk has
+     * been attached, requesting a chunk which is already loaded completes the
+     * {@link Future} immediately.</p>
+     *
+     * <p>Requesting a chunk which is already queued does not load it twice,
+     * but raises the priority of the pending request if the given priority is
+     * higher.</p>
+     *
+     * <p><b>Note:</b> If asynchronous chunk loading is not supported by
+     * the implementation, the chunk will be loaded synchronously and the
+     * {@link Future} will be called immediately.</p>
+     *
+     * @param cx The x coordinate
+     * @param cy The y coordinate
+     * @param cz The z coordinate
+     * @param shouldGenerate True to generate a new chunk
+     * @param priority The priority of the load request
+     * @return The future callback for the loaded chunk
+     */
+    default CompletableFuture<Optional<Chunk>> loadChunkAsync(int cx, int cy, int cz, boolean shouldGenerate, ChunkLoadPriority priority) {
         return CompletableFuture.completedFuture(loadChunk(cx, cy, cz, shouldGenerate));
     }
 
+    /**
+     * Gets the chunks at the given chunk coordinate positions which exist or,
+     * if {@code shouldGenerate} is true, could be generated.
+     *
+     * <p>All chunks are requested at once with {@link ChunkLoadPriority#NORMAL
+     * normal} priority, allowing the implementation to batch the region file
+     * accesses.</p>
+     *
+     * @param chunkPositions The positions
+     * @param shouldGenerate True to generate new chunks
+     * @return The future callback for the loaded chunks
+     * @see #loadChunksAsync(Collection, boolean, ChunkLoadPriority)
+     */
+    default CompletableFuture<Map<Vector3i, Chunk>> loadChunksAsync(Collection<Vector3i> chunkPositions, boolean shouldGenerate) {
+        return loadChunksAsync(chunkPositions, shouldGenerate, ChunkLoadPriority.NORMAL);
+    }
+
+    /**
+     * Gets the chunks at the given chunk coordinate positions which exist or,
+     * if {@code shouldGenerate} is true, could be generated.
+     *
+     * <p>All chunks are requested at once with the given
+     * {@link ChunkLoadPriority}, allowing the implementation to read chunks
+     * which are stored in the same region file together. The {@link Future}
+     * is completed on the main thread once every requested chunk has been
+     * processed. Chunks which neither exist nor were generated are absent
+     * from the resulting map.</p>
+     *
+     * @param chunkPositions The positions
+     * @param shouldGenerate True to generate new chunks
+     * @param priority The priority of the load requests
+     * @return The future callback for the loaded chunks
+     */
+    default CompletableFuture<Map<Vector3i, Chunk>> loadChunksAsync(Collection<Vector3i> chunkPositions, boolean shouldGenerate,
+            ChunkLoadPriority priority) {
+        final Map<Vector3i, CompletableFuture<Optional<Chunk>>> futures = new HashMap<>();
+        for (Vector3i chunkPosition : chunkPositions) {
+            futures.computeIfAbsent(chunkPosition, position -> loadChunkAsync(position, shouldGenerate, priority));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[futures.size()])).thenApply(v -> {
+            final Map<Vector3i, Chunk> chunks = new HashMap<>();
+            futures.forEach((position, future) -> future.join().ifPresent(chunk -> chunks.put(position, chunk)));
+            return chunks;
+        });
+    }
+
     /**
      * Unloads the given chunk from the world. Returns a {@code boolean} flag
      * for whether the operation was successful.
@@ -39,13 +39,24 @@
 import org.spongepowered.api.util.AABB;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * A container of {@link Entity} instances.
+ *
+ * <p>Implementations are expected to keep their entities in a spatial index,
+ * for example in buckets per chunk section, so that the cost of the
+ * intersection and proximity queries of this universe scales with the number
+ * of entities near the queried area rather than with the total number of
+ * entities.</p>
  */
 public interface EntityUniverse {
 
@@ -108,6 +119,51 @@ default Collection<Entity> getNearbyEntities(Vector3d location, double distance)
             entity -> entity.getLocation().getPosition().distanceSquared(location) <= distance * distance);
     }
 
+    /**
+     * Return a list of at most {@code count} entities contained within
+     * {@code distance} blocks of the specified location, ordered from the
+     * nearest to the farthest. This uses a sphere to test distances.
+     *
+     * <p>For world implementations, only some parts of the world is usually
+     * loaded, so this method will only return entities within those loaded
+     * parts.</p>
+     *
+     * @param location The location at the center of the search radius
+     * @param distance The search radius
+     * @param count The maximum number of entities to return
+     * @return A list of the nearest entities
+     */
+    default List<Entity> getNearestEntities(Vector3d location, double distance, int count) {
+        return getNearestEntities(location, distance, count, entity -> true);
+    }
+
+    /**
+     * Return a list of at most {@code count} entities contained within
+     * {@code distance} blocks of the specified location which pass the given
+     * filter test, ordered from the nearest to the farthest. This uses a
+     * sphere to test distances.
+     *
+     * <p>For world implementations, only some parts of the world is usually
+     * loaded, so this method will only return entities within those loaded
+     * parts.</p>
+     *
+     * @param location The location at the center of the search radius
+     * @param distance The search radius
+     * @param count The maximum number of entities to return
+     * @param filter The filter test
+     * @return A list of the nearest entities that pass the filter test
+     */
+    default List<Entity> getNearestEntities(Vector3d location, double distance, int count, Predicate<Entity> filter) {
+        checkNotNull(location, "location");
+        checkNotNull(filter, "filter");
+        checkArgument(count > 0, "count must be > 0");
+        return getNearbyEntities(location, distance).stream()
+                .filter(filter)
+                .sorted(Comparator.comparingDouble(entity -> entity.getLocation().getPosition().distanceSquared(location)))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Create an entity instance at the given position.
      *
@@ -267,6 +323,58 @@ default Entity createEntityNaturally(EntityType type, Vector3i position) throws
      */
     Collection<Entity> spawnEntities(Iterable<? extends Entity> entities);
 
+    /**
+     * Passes all the entities that intersect the bounding box to the given
+     * {@link Consumer}, in no particular order.
+     *
+     * <p>Unlike {@link #getIntersectingEntities(AABB)}, this does not need to
+     * collect the entities into a new {@link Set}. The consumer must not
+     * spawn or remove entities.</p>
+     *
+     * @param box The intersection box
+     * @param consumer The consumer of the intersecting entities
+     */
+    default void forEachIntersectingEntity(AABB box, Consumer<? super Entity> consumer) {
+        forEachIntersectingEntity(box, entity -> true, consumer);
+    }
+
+    /**
+     * Passes all the entities that intersect the bounding box to the given
+     * {@link Consumer}, in no particular order, as long as they pass the given
+     * filter test.
+     *
+     * <p>Unlike {@link #getIntersectingEntities(AABB, Predicate)}, this does
+     * not need to collect the entities into a new {@link Set}. The consumer
+     * must not spawn or remove entities.</p>
+     *
+     * @param box The intersection box
+     * @param filter The filter test
+     * @param consumer The consumer of the intersecting entities
+     */
+    default void forEachIntersectingEntity(AABB box, Predicate<Entity> filter, Consumer<? super Entity> consumer) {
+        checkNotNull(consumer, "consumer");
+        getIntersectingEntities(box, filter).forEach(consumer);
+    }
+
+    /**
+     * Passes all the entities of the given class that intersect the bounding
+     * box to the given {@link Consumer}, in no particular order.
+     *
+     * <p>Entities which are not of the given class are not tested against the
+     * bounding box at all. The consumer must not spawn or remove
+     * entities.</p>
+     *
+     * @param box The intersection box
+     * @param type The class of the entities
+     * @param consumer The consumer of the intersecting entities
+     * @param <T> The type of the entities
+     */
+    default <T extends Entity> void forEachIntersectingEntity(AABB box, Class<T> type, Consumer<? super T> consumer) {
+        checkNotNull(type, "type");
+        checkNotNull(consumer, "consumer");
+        forEachIntersectingEntity(box, type::isInstance, entity -> consumer.accept(type.cast(entity)));
+    }
+
     /**
      * Gets all the entities that intersect the bounding box, in no particular
      * order.
@@ -288,6 +396,25 @@ default Set<Entity> getIntersectingEntities(AABB box) {
      */
     Set<Entity> getIntersectingEntities(AABB box, Predicate<Entity> filter);
 
+    /**
+     * Gets all the entities of the given class that intersect the bounding
+     * box, in no particular order.
+     *
+     * <p>Entities which are not of the given class are not tested against the
+     * bounding box at all.</p>
+     *
+     * @param box The intersection box
+     * @param type The class of the entities
+     * @param <T> The type of the entities
+     * @return All the intersecting entities of the given class
+     */
+    default <T extends Entity> Set<T> getIntersectingEntities(AABB box, Class<T> type) {
+        checkNotNull(type, "type");
+        final Set<T> entities = new HashSet<>();
+        forEachIntersectingEntity(box, type, entities::add);
+        return entities;
+    }
+
     /**
      * Gets all the entities that intersect the ray (by their bounding box)
      * The ray is defined by its start and end point.
@@ -44,4 +44,21 @@ public interface BiomeGenerator {
      */
     void generateBiomes(MutableBiomeVolume buffer);
 
+    /**
+     * Gets whether this biome generator may be called concurrently from
+     * multiple threads, each operating on a different buffer.
+     *
+     * <p>A thread safe biome generator must not modify shared state without
+     * synchronization, as it may be called off the main thread. The given
+     * buffer is never shared between concurrent calls.</p>
+     *
+     * <p>Defaults to {@code false}, in which case the generator is always
+     * called from the main thread.</p>
+     *
+     * @return True if this generator can be called concurrently
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
@@ -34,6 +34,11 @@
  * 
  * <p>Unlike a normal {@link Populator}, a {@link GenerationPopulator} is
  * restricted to the chunk that is currently being generated.</p>
+ *
+ * <p>Generation populators which only depend on their arguments and on their
+ * own immutable state may declare themselves {@link #isThreadSafe() thread
+ * safe}, allowing the implementation to run the generation phase of many
+ * chunks concurrently on worker threads.</p>
  */
 public interface GenerationPopulator {
 
@@ -48,4 +53,24 @@ public interface GenerationPopulator {
      */
     void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes);
 
+    /**
+     * Gets whether this generation populator may be called concurrently from
+     * multiple threads, each operating on a different chunk buffer.
+     *
+     * <p>A thread safe generation populator must not modify shared state
+     * without synchronization and must not access the given {@link World}
+     * beyond its immutable properties (such as its seed or
+     * {@link World#getProperties() properties}), as it may be called off the
+     * main thread. The given buffer and biomes are never shared between
+     * concurrent calls.</p>
+     *
+     * <p>Defaults to {@code false}, in which case the populator is always
+     * called from the main thread.</p>
+     *
+     * @return True if this populator can be called concurrently
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
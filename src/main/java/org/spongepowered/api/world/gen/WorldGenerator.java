@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.world.gen;
 
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.world.biome.BiomeGenerationSettings;
 import org.spongepowered.api.world.biome.BiomeType;
 
@@ -69,6 +70,15 @@
  *   <li>Pass the chunk to each of the {@link #getPopulators() Populators}
  *     registered to the WorldGenerator.</li>
  * </ol>
+ *
+ * <p>If the {@link #getBiomeGenerator() BiomeGenerator} and every
+ * GenerationPopulator involved in the generation phase are
+ * {@link GenerationPopulator#isThreadSafe() thread safe} (see
+ * {@link #isGenerationThreadSafe()}), the implementation may run the
+ * generation phase for many chunks concurrently on worker threads. Only the
+ * final construction of the Chunk object and the population phase, which
+ * operate on the live world, are then required to happen on the main
+ * thread.</p>
  */
 //@formatter:on
 public interface WorldGenerator {
@@ -147,6 +157,39 @@ public interface WorldGenerator {
      */
     void setBiomeGenerator(BiomeGenerator biomeGenerator);
 
+    /**
+     * Gets whether the whole generation phase of this world generator may be
+     * run concurrently for multiple chunks.
+     *
+     * <p>This is the case if the {@link #getBiomeGenerator() biome generator},
+     * the {@link #getBaseGenerationPopulator() base generation populator},
+     * every {@link #getGenerationPopulators() generation populator} and the
+     * {@link BiomeGenerationSettings#getGenerationPopulators() generation
+     * populators} of every registered {@link BiomeType} are thread safe.
+     * {@link Populator}s are not taken into account as the population phase
+     * always happens on the main thread.</p>
+     *
+     * @return True if the generation phase can run on worker threads
+     */
+    default boolean isGenerationThreadSafe() {
+        if (!getBiomeGenerator().isThreadSafe() || !getBaseGenerationPopulator().isThreadSafe()) {
+            return false;
+        }
+        for (GenerationPopulator populator : getGenerationPopulators()) {
+            if (!populator.isThreadSafe()) {
+                return false;
+            }
+        }
+        for (BiomeType biomeType : Sponge.getRegistry().getAllOf(BiomeType.class)) {
+            for (GenerationPopulator populator : getBiomeSettings(biomeType).getGenerationPopulators()) {
+                if (!populator.isThreadSafe()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Gets this world generator settings for the given {@link BiomeType}..
      *
@@ -25,8 +25,11 @@
 package org.spongepowered.api.world.storage;
 
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.world.Chunk;
 
+import java.util.function.Predicate;
+
 import javax.annotation.Nullable;
 
 /**
@@ -42,6 +45,7 @@
  * <p>This is a data stream from the chunk storage system and should be used in
  * an asynchronous thread from the main thread.</p>
  *
+ * @see WorldStorage#streamGeneratedChunks(Predicate, DataQuery...)
  */
 public interface ChunkDataStream {
 
@@ -24,13 +24,28 @@
  */
 package org.spongepowered.api.world.storage;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.util.Tuple;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.World;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Represents the storage manager of a particular {@link World}.
@@ -48,9 +63,49 @@ public interface WorldStorage {
      * tasks to avoid hanging the main thread.</p>
      *
      * @return An iterator of generated chunks
+     * @see #streamGeneratedChunks(Predicate, DataQuery...)
      */
     ChunkDataStream getGeneratedChunks();
 
+    /**
+     * Gets a {@link Stream} of the data of all generated chunks, paired with
+     * the chunk coordinates they belong to.
+     *
+     * @return A stream of generated chunk data
+     * @see #streamGeneratedChunks(Predicate, DataQuery...)
+     */
+    default Stream<Tuple<Vector3i, DataContainer>> streamGeneratedChunks() {
+        return streamGeneratedChunks(chunkCoords -> true);
+    }
+
+    /**
+     * Gets a {@link Stream} of the data of the generated chunks whose
+     * coordinates match the given {@link Predicate}, paired with the chunk
+     * coordinates they belong to.
+     *
+     * <p>The filter is tested against the chunk coordinates read from the
+     * region file headers, chunks which do not match it are neither read nor
+     * decoded.</p>
+     *
+     * <p>If any {@link DataQuery queries} are given, only the data at these
+     * paths is decoded and present in the resulting {@link DataContainer}s,
+     * which avoids the cost of decoding data the caller is not interested in.
+     * If no query is given, the full chunk data is decoded.</p>
+     *
+     * <p>The returned stream is lazy and splits along region file boundaries,
+     * requesting a {@link Stream#parallel() parallel} stream reads and decodes
+     * multiple region files concurrently. In that case the filter may be
+     * called concurrently from multiple threads. Like with a
+     * {@link ChunkDataStream}, the data is a read only copy which is not kept
+     * in sync with loaded chunks, and the stream should only be consumed from
+     * asynchronous tasks to avoid hanging the main thread.</p>
+     *
+     * @param chunkFilter The filter for the chunk coordinates
+     * @param queries The paths to decode, or none to decode all data
+     * @return A stream of generated chunk data
+     */
+    Stream<Tuple<Vector3i, DataContainer>> streamGeneratedChunks(Predicate<Vector3i> chunkFilter, DataQuery... queries);
+
     /**
      * Checks if the given chunk coordinates represented by {@link Vector3i}
      * exist in the world.
@@ -68,6 +123,125 @@ public interface WorldStorage {
      */
     CompletableFuture<Boolean> doesChunkExist(Vector3i chunkCoords);
 
+    /**
+     * Checks which of the given chunk coordinates represented by
+     * {@link Vector3i}s exist in the world.
+     *
+     * <p>Unlike calling {@link #doesChunkExist(Vector3i)} for every chunk,
+     * this allows the implementation to read the header of each involved
+     * region file only once.</p>
+     *
+     * <p>It is imperative to understand that the {@link CompletableFuture} task
+     * is blocking, and should avoid using {@link CompletableFuture#get()} while
+     * on the main thread.</p>
+     *
+     * @param chunkCoords The chunk coordinates
+     * @return The chunk coordinates which exist
+     */
+    default CompletableFuture<Set<Vector3i>> doChunksExist(Collection<Vector3i> chunkCoords) {
+        final Map<Vector3i, CompletableFuture<Boolean>> futures = new HashMap<>();
+        for (Vector3i coords : chunkCoords) {
+            futures.computeIfAbsent(coords, this::doesChunkExist);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[futures.size()])).thenApply(v -> {
+            final Set<Vector3i> existing = new HashSet<>();
+            futures.forEach((coords, future) -> {
+                if (future.join()) {
+                    existing.add(coords);
+                }
+            });
+            return existing;
+        });
+    }
+
+    /**
+     * Checks which chunks within the given inclusive range of chunk
+     * coordinates exist in the world.
+     *
+     * <p>The result is a {@link BitSet} with one bit per chunk in the range.
+     * Bits are indexed x-fastest, then z, then y: the bit of the chunk at
+     * {@code (x, y, z)} is found at the index
+     * {@code (x - min.x) + (z - min.z) * sizeX + (y - min.y) * sizeX * sizeZ},
+     * where {@code sizeX} and {@code sizeZ} are the sizes of the range along
+     * the respective axes. The range is checked one region file at a time,
+     * so the coordinates of the whole range are never held at once.</p>
+     *
+     * <p>It is imperative to understand that the {@link CompletableFuture} task
+     * is blocking, and should avoid using {@link CompletableFuture#get()} while
+     * on the main thread.</p>
+     *
+     * @param min The minimum chunk coordinates, inclusive
+     * @param max The maximum chunk coordinates, inclusive
+     * @return The bits of the chunks which exist
+     * @throws IllegalArgumentException If any coordinate of {@code min} is
+     *     greater than the one of {@code max}, or if the range contains more
+     *     than {@link Integer#MAX_VALUE} chunks
+     */
+    default CompletableFuture<BitSet> doChunksExist(Vector3i min, Vector3i max) {
+        checkNotNull(min, "min");
+        checkNotNull(max, "max");
+        checkArgument(min.getX() <= max.getX() && min.getY() <= max.getY() && min.getZ() <= max.getZ(),
+                "min %s must not be greater than max %s", min, max);
+        // Computed as longs, the range may span more chunks than an int holds
+        final long sizeX = (long) max.getX() - min.getX() + 1;
+        final long sizeY = (long) max.getY() - min.getY() + 1;
+        final long sizeZ = (long) max.getZ() - min.getZ() + 1;
+        checkArgument(sizeZ <= Integer.MAX_VALUE / sizeX && sizeY <= Integer.MAX_VALUE / (sizeX * sizeZ),
+                "The range from %s to %s contains too many chunks", min, max);
+        final int layerSize = (int) (sizeX * sizeZ);
+        // The range is walked in batches of one region file, 32 by 32 chunk
+        // columns, per layer, so only the coordinates of one batch are held
+        // at a time
+        final int minRegionX = Math.floorDiv(min.getX(), 32);
+        final int minRegionZ = Math.floorDiv(min.getZ(), 32);
+        final long regionsX = Math.floorDiv(max.getX(), 32) - minRegionX + 1;
+        final long regionsZ = Math.floorDiv(max.getZ(), 32) - minRegionZ + 1;
+        final long batches = regionsX * regionsZ * sizeY;
+        final BitSet bits = new BitSet();
+        final class Walker {
+
+            CompletableFuture<BitSet> walk(long batch) {
+                for (; batch < batches; batch++) {
+                    final long regionX = minRegionX + batch % regionsX;
+                    final long regionZ = minRegionZ + batch / regionsX % regionsZ;
+                    final int y = (int) (min.getY() + batch / (regionsX * regionsZ));
+                    // Clamp the region to the range, as longs to avoid overflows at the int boundaries
+                    final int fromX = (int) Math.max(regionX * 32, min.getX());
+                    final int toX = (int) Math.min(regionX * 32 + 31, max.getX());
+                    final int fromZ = (int) Math.max(regionZ * 32, min.getZ());
+                    final int toZ = (int) Math.min(regionZ * 32 + 31, max.getZ());
+                    final List<Vector3i> chunkCoords = new ArrayList<>((toX - fromX + 1) * (toZ - fromZ + 1));
+                    for (long z = fromZ; z <= toZ; z++) {
+                        for (long x = fromX; x <= toX; x++) {
+                            chunkCoords.add(new Vector3i((int) x, y, (int) z));
+                        }
+                    }
+                    final CompletableFuture<Set<Vector3i>> existing = doChunksExist(chunkCoords);
+                    if (!existing.isDone() || existing.isCompletedExceptionally()) {
+                        // Continue once the batch completes, without growing the stack for completed batches
+                        final long next = batch + 1;
+                        return existing.thenCompose(coords -> {
+                            set(coords);
+                            return walk(next);
+                        });
+                    }
+                    set(existing.join());
+                }
+                return CompletableFuture.completedFuture(bits);
+            }
+
+            private void set(Set<Vector3i> existing) {
+                for (Vector3i coords : existing) {
+                    bits.set((int) (((long) coords.getX() - min.getX())
+                            + ((long) coords.getZ() - min.getZ()) * sizeX
+                            + ((long) coords.getY() - min.getY()) * layerSize));
+                }
+            }
+        }
+
+        return new Walker().walk(0);
+    }
+
     /**
      * Gets a {@link DataContainer} including all data related to a
      * {@link Chunk}.
@@ -88,6 +262,36 @@ public interface WorldStorage {
      */
     CompletableFuture<Optional<DataContainer>> getChunkData(Vector3i chunkCoords);
 
+    /**
+     * Gets {@link DataContainer}s including all data related to the
+     * {@link Chunk}s at the given chunk coordinates.
+     *
+     * <p>Unlike calling {@link #getChunkData(Vector3i)} for every chunk, this
+     * allows the implementation to read chunks stored in the same region file
+     * together. Chunks which have not been generated are absent from the
+     * resulting map. The same restrictions as for
+     * {@link #getChunkData(Vector3i)} apply to the returned data.</p>
+     *
+     * <p>It is imperative to understand that the {@link CompletableFuture} task
+     * is blocking, and should avoid using {@link CompletableFuture#get()} while
+     * on the main thread.</p>
+     *
+     * @param chunkCoords The chunk coordinates
+     * @return The data containers representing the chunk data, by chunk
+     *         coordinates
+     */
+    default CompletableFuture<Map<Vector3i, DataContainer>> getChunkData(Collection<Vector3i> chunkCoords) {
+        final Map<Vector3i, CompletableFuture<Optional<DataContainer>>> futures = new HashMap<>();
+        for (Vector3i coords : chunkCoords) {
+            futures.computeIfAbsent(coords, this::getChunkData);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[futures.size()])).thenApply(v -> {
+            final Map<Vector3i, DataContainer> data = new HashMap<>();
+            futures.forEach((coords, future) -> future.join().ifPresent(container -> data.put(coords, container)));
+            return data;
+        });
+    }
+
     /**
      * Gets the {@link WorldProperties} of this storage. In the vanilla storage
      * medium this represents the data available in the level.dat file.
@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.block.trait.BlockTrait;
+
+import java.util.List;
+import java.util.Optional;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class BlockStateTransitionTableTest {
+
+    private static final int FIRST_ORDINAL = 10;
+    private static final List<Integer> AGES = ImmutableList.of(0, 1, 2);
+    private static final List<Boolean> POWERED = ImmutableList.of(false, true);
+
+    private BlockTrait age;
+    private BlockTrait powered;
+    private BlockState[][] states;
+    private BlockStateTransitionTable table;
+
+    @Before
+    public void initialize() {
+        this.age = mock(BlockTrait.class);
+        this.powered = mock(BlockTrait.class);
+        when(this.age.getPossibleValues()).thenReturn(AGES);
+        when(this.powered.getPossibleValues()).thenReturn(POWERED);
+
+        final BlockType type = mock(BlockType.class);
+        final ImmutableList.Builder<BlockState> allStates = ImmutableList.builder();
+        this.states = new BlockState[AGES.size()][POWERED.size()];
+        for (int age = 0; age < AGES.size(); age++) {
+            for (int powered = 0; powered < POWERED.size(); powered++) {
+                final BlockState state = mock(BlockState.class);
+                when(state.getOrdinal()).thenReturn(FIRST_ORDINAL + age * POWERED.size() + powered);
+                when(state.getTraitMap()).thenReturn((ImmutableMap) ImmutableMap.of(this.age, AGES.get(age), this.powered, POWERED.get(powered)));
+                this.states[age][powered] = state;
+                allStates.add(state);
+            }
+        }
+        for (int age = 0; age < AGES.size(); age++) {
+            for (int powered = 0; powered < POWERED.size(); powered++) {
+                final BlockState state = this.states[age][powered];
+                for (int value = 0; value < AGES.size(); value++) {
+                    when(state.withTrait(this.age, AGES.get(value))).thenReturn(Optional.of(this.states[value][powered]));
+                }
+                for (int value = 0; value < POWERED.size(); value++) {
+                    when(state.withTrait(this.powered, POWERED.get(value))).thenReturn(Optional.of(this.states[age][value]));
+                }
+            }
+        }
+        when(type.getAllBlockStates()).thenReturn(allStates.build().reverse());
+        when(type.getTraits()).thenReturn(ImmutableList.of(this.age, this.powered));
+        this.table = BlockStateTransitionTable.of(type);
+    }
+
+    @Test
+    public void testLookups() {
+        assertEquals(FIRST_ORDINAL, this.table.getFirstOrdinal());
+        assertEquals(AGES.size() * POWERED.size(), this.table.getStateCount());
+        assertSame(this.states[1][1], this.table.getState(this.states[1][1].getOrdinal()));
+        assertEquals(0, this.table.getTraitIndex(this.age));
+        assertEquals(1, this.table.getTraitIndex(this.powered));
+        assertEquals(2, this.table.getValueIndex(0, 2));
+        assertEquals(1, this.table.getValueIndexOf(this.states[2][1].getOrdinal(), 1));
+    }
+
+    @Test
+    public void testTransitions() {
+        final int ordinal = this.states[0][1].getOrdinal();
+        assertEquals(this.states[2][1].getOrdinal(), this.table.with(ordinal, 0, 2));
+        assertEquals(this.states[0][0].getOrdinal(), this.table.with(ordinal, 1, 0));
+        assertEquals(this.states[1][1].getOrdinal(), this.table.cycle(ordinal, 0));
+        assertEquals(this.states[0][1].getOrdinal(), this.table.cycle(this.states[2][1].getOrdinal(), 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForeignOrdinal() {
+        this.table.getState(FIRST_ORDINAL - 1);
+    }
+
+}
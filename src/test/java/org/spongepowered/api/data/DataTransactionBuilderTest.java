@@ -25,9 +25,13 @@
 package org.spongepowered.api.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.spongepowered.api.data.DataTransactionResult.Type;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
 
 public class DataTransactionBuilderTest {
 
@@ -40,6 +44,26 @@ public void testCorrectTypeWhenAbsorbingResult() {
         assertEquals(Type.CANCELLED, absorbedType(Type.FAILURE, Type.CANCELLED));
     }
     
+    @Test
+    public void testNoDataResultsAreCached() {
+        for (Type type : Type.values()) {
+            assertSame(DataTransactionResult.noDataResult(type), DataTransactionResult.builder().result(type).build());
+        }
+        assertSame(DataTransactionResult.successNoData(), DataTransactionResult.noDataResult(Type.SUCCESS));
+        assertSame(DataTransactionResult.failNoData(), DataTransactionResult.noDataResult(Type.FAILURE));
+    }
+
+    @Test
+    public void testBuilderReuseDoesNotAffectBuiltResult() {
+        final ImmutableValue<?> first = mock(ImmutableValue.class);
+        final ImmutableValue<?> second = mock(ImmutableValue.class);
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder().result(Type.SUCCESS).success(first);
+        final DataTransactionResult result = builder.build();
+        final DataTransactionResult other = builder.success(second).build();
+        assertEquals(ImmutableList.of(first), result.getSuccessfulData());
+        assertEquals(ImmutableList.of(first, second), other.getSuccessfulData());
+    }
+
     private Type absorbedType(Type builderType, Type resultType) {
         DataTransactionResult result = DataTransactionResult.builder().result(resultType).build();
         DataTransactionResult absorbed = DataTransactionResult.builder().result(builderType).absorbResult(result).build();
@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.property;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.property.block.HardnessProperty;
+
+import java.util.Optional;
+
+@SuppressWarnings("unchecked")
+public class CachingPropertyStoreTest {
+
+    private PropertyStore<HardnessProperty> delegate;
+    private BlockState blockState;
+    private HardnessProperty property;
+
+    @Before
+    public void initialize() {
+        this.delegate = mock(PropertyStore.class);
+        this.blockState = mock(BlockState.class);
+        this.property = mock(HardnessProperty.class);
+        when(this.delegate.getFor(this.blockState)).thenReturn(Optional.of(this.property));
+    }
+
+    @Test
+    public void testPureStoreIsCached() {
+        when(this.delegate.isBlockStatePure()).thenReturn(true);
+        final CachingPropertyStore<HardnessProperty> store = new CachingPropertyStore<>(this.delegate);
+        assertEquals(Optional.of(this.property), store.getFor(this.blockState));
+        assertEquals(Optional.of(this.property), store.getFor(this.blockState));
+        verify(this.delegate, times(1)).getFor(this.blockState);
+
+        store.invalidate(this.blockState);
+        assertEquals(Optional.of(this.property), store.getFor(this.blockState));
+        verify(this.delegate, times(2)).getFor(this.blockState);
+    }
+
+    @Test
+    public void testInvalidateAfterGrowth() {
+        when(this.delegate.isBlockStatePure()).thenReturn(true);
+        final BlockState other = mock(BlockState.class);
+        when(other.getOrdinal()).thenReturn(100);
+        when(this.delegate.getFor(other)).thenReturn(Optional.empty());
+        final CachingPropertyStore<HardnessProperty> store = new CachingPropertyStore<>(this.delegate);
+        store.getFor(this.blockState);
+        store.getFor(other);
+
+        store.invalidate(this.blockState);
+        store.getFor(this.blockState);
+        store.getFor(other);
+        verify(this.delegate, times(2)).getFor(this.blockState);
+        verify(this.delegate, times(1)).getFor(other);
+    }
+
+    @Test
+    public void testInvalidateDuringLoad() {
+        when(this.delegate.isBlockStatePure()).thenReturn(true);
+        final CachingPropertyStore<HardnessProperty> store = new CachingPropertyStore<>(this.delegate);
+        final HardnessProperty stale = mock(HardnessProperty.class);
+        // The first load is invalidated before its result is put into the cache
+        when(this.delegate.getFor(this.blockState)).then(invocation -> {
+            store.invalidate(this.blockState);
+            return Optional.of(stale);
+        }).thenReturn(Optional.of(this.property));
+
+        assertEquals(Optional.of(stale), store.getFor(this.blockState));
+        assertEquals(Optional.of(this.property), store.getFor(this.blockState));
+        assertEquals(Optional.of(this.property), store.getFor(this.blockState));
+        verify(this.delegate, times(2)).getFor(this.blockState);
+    }
+
+    @Test
+    public void testImpureStoreIsNotCached() {
+        final CachingPropertyStore<HardnessProperty> store = new CachingPropertyStore<>(this.delegate);
+        store.getFor(this.blockState);
+        store.getFor(this.blockState);
+        verify(this.delegate, times(2)).getFor(this.blockState);
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+
+@SuppressWarnings("unchecked")
+public class SequentialValueBatchTest {
+
+    private CompositeValueStore<?, ?> store;
+    private Key<Value<Integer>> first;
+    private Key<Value<Integer>> second;
+
+    @Before
+    public void initialize() {
+        this.store = mock(CompositeValueStore.class);
+        this.first = mock(Key.class);
+        this.second = mock(Key.class);
+        when(this.store.offer(this.first, 1)).thenReturn(DataTransactionResult.successNoData());
+        when(this.store.offer(this.first, 3)).thenReturn(DataTransactionResult.successNoData());
+        when(this.store.offer(this.second, 2)).thenReturn(DataTransactionResult.failNoData());
+        when(this.store.remove(this.second)).thenReturn(DataTransactionResult.successNoData());
+        when(this.store.offerFast(this.first, 3)).thenReturn(DataTransactionResult.Type.SUCCESS);
+        when(this.store.removeFast(this.second)).thenReturn(DataTransactionResult.Type.SUCCESS);
+    }
+
+    @Test
+    public void testLastStagedChangeWins() {
+        final boolean successful = new SequentialValueBatch(this.store)
+                .offer(this.first, 1)
+                .remove(this.second)
+                .offer(this.first, 3)
+                .apply();
+        assertTrue(successful);
+        final InOrder order = inOrder(this.store);
+        order.verify(this.store).offerFast(this.first, 3);
+        order.verify(this.store).removeFast(this.second);
+        verify(this.store, never()).offerFast(this.first, 1);
+    }
+
+    @Test
+    public void testMergedResult() {
+        final DataTransactionResult result = new SequentialValueBatch(this.store)
+                .offer(this.first, 1)
+                .offer(this.second, 2)
+                .commit();
+        assertFalse(result.isSuccessful());
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        assertTrue(new SequentialValueBatch(this.store).commit().isSuccessful());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCommitTwice() {
+        final SequentialValueBatch batch = new SequentialValueBatch(this.store);
+        batch.apply();
+        batch.commit();
+    }
+
+}
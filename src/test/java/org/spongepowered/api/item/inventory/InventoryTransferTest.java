@@ -0,0 +1,109 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.inventory;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.spongepowered.api.item.inventory.transaction.InventoryTransactionResult;
+
+import java.util.Optional;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class InventoryTransferTest {
+
+    private static Slot slot(int quantity) {
+        final ItemStack contents = stack(quantity);
+        final Slot slot = mock(Slot.class);
+        when(slot.peek()).thenReturn(Optional.of(contents));
+        when(slot.peek(anyInt())).thenAnswer(invocation -> Optional.of(stack(Math.min(quantity, invocation.<Integer>getArgument(0)))));
+        return slot;
+    }
+
+    private static ItemStack stack(int quantity) {
+        final ItemStack stack = mock(ItemStack.class);
+        final int[] current = {quantity};
+        when(stack.getQuantity()).thenAnswer(invocation -> current[0]);
+        doAnswer(invocation -> current[0] = invocation.getArgument(0)).when(stack).setQuantity(anyInt());
+        return stack;
+    }
+
+    @Test
+    public void testTransferLimit() {
+        final Slot first = slot(10);
+        final Slot second = slot(10);
+        final Slot third = slot(10);
+        final Inventory source = mock(Inventory.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        when(source.slots()).thenReturn((Iterable) ImmutableList.of(first, second, third));
+        final Inventory target = mock(Inventory.class);
+        // The target accepts everything that is offered
+        when(target.offer(any())).thenAnswer(invocation -> {
+            invocation.<ItemStack>getArgument(0).setQuantity(0);
+            return InventoryTransactionResult.successNoTransactions();
+        });
+
+        final InventoryTransactionResult result = source.transfer(target, 15);
+        assertEquals(InventoryTransactionResult.Type.SUCCESS, result.getType());
+        assertEquals(2, result.getSlotTransactions().size());
+        verify(first).poll(10);
+        verify(second).poll(5);
+        verify(third, never()).poll(anyInt());
+    }
+
+    @Test
+    public void testTransferToFullTarget() {
+        final Slot slot = slot(10);
+        final Inventory source = mock(Inventory.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        when(source.slots()).thenReturn((Iterable) ImmutableList.of(slot));
+        final Inventory target = mock(Inventory.class);
+        // The target rejects everything that is offered
+        when(target.offer(any())).thenReturn(InventoryTransactionResult.failNoTransactions());
+
+        final InventoryTransactionResult result = source.transfer(target, 15);
+        assertEquals(InventoryTransactionResult.Type.FAILURE, result.getType());
+        assertEquals(0, result.getSlotTransactions().size());
+        verify(slot, never()).poll(anyInt());
+    }
+
+    @Test
+    public void testTransferFromEmptySource() {
+        final Inventory source = mock(Inventory.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        when(source.slots()).thenReturn((Iterable) ImmutableList.of());
+
+        final InventoryTransactionResult result = source.transfer(mock(Inventory.class), 15);
+        assertEquals(InventoryTransactionResult.Type.FAILURE, result.getType());
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.recipe.crafting;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.crafting.CraftingGridInventory;
+import org.spongepowered.api.world.World;
+
+import java.util.Optional;
+
+public class CraftingRecipeIndexTest {
+
+    private ItemType stick;
+    private ItemType stone;
+    private World world;
+    private CraftingGridInventory grid;
+
+    @Before
+    public void initialize() {
+        this.stick = mock(ItemType.class);
+        this.stone = mock(ItemType.class);
+        this.world = mock(World.class);
+        this.grid = mock(CraftingGridInventory.class);
+        when(this.grid.getColumns()).thenReturn(3);
+        when(this.grid.getRows()).thenReturn(3);
+        when(this.grid.peek(anyInt(), anyInt())).thenReturn(Optional.empty());
+    }
+
+    private void place(int x, int y, ItemType type) {
+        final ItemStack itemStack = mock(ItemStack.class);
+        when(itemStack.getType()).thenReturn(type);
+        when(this.grid.peek(x, y)).thenReturn(Optional.of(itemStack));
+    }
+
+    private Ingredient ingredient(ItemType type) {
+        final Ingredient ingredient = mock(Ingredient.class);
+        when(ingredient.getMatchingItemTypes()).thenReturn(Optional.of(ImmutableSet.of(type)));
+        return ingredient;
+    }
+
+    private ShapedCraftingRecipe shaped(Ingredient... row) {
+        final ShapedCraftingRecipe recipe = mock(ShapedCraftingRecipe.class);
+        when(recipe.getWidth()).thenReturn(row.length);
+        when(recipe.getHeight()).thenReturn(1);
+        for (int x = 0; x < row.length; x++) {
+            when(recipe.getIngredient(x, 0)).thenReturn(row[x]);
+        }
+        return recipe;
+    }
+
+    @Test
+    public void testShapedBuckets() {
+        final ShapedCraftingRecipe stickFirst = shaped(ingredient(this.stick), ingredient(this.stone));
+        final ShapedCraftingRecipe stoneOnly = shaped(ingredient(this.stone), ingredient(this.stone));
+        final CraftingRecipeIndex index = new CraftingRecipeIndex();
+        index.add(stoneOnly);
+        index.add(stickFirst);
+        when(stickFirst.isValid(this.grid, this.world)).thenReturn(true);
+
+        // Mirrored placement, the stone comes first in the grid
+        place(1, 2, this.stone);
+        place(2, 2, this.stick);
+        assertEquals(Optional.of(stickFirst), index.findMatchingRecipe(this.grid, this.world));
+        verify(stoneOnly).isValid(this.grid, this.world);
+
+        place(1, 2, this.stick);
+        assertEquals(Optional.of(stickFirst), index.findMatchingRecipe(this.grid, this.world));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testShapelessAndUnindexed() {
+        final Ingredient stick = ingredient(this.stick);
+        final Ingredient stone = ingredient(this.stone);
+        final ShapelessCraftingRecipe shapeless = mock(ShapelessCraftingRecipe.class);
+        when(shapeless.getIngredientPredicates()).thenReturn(ImmutableList.of(stick, stone));
+        final ShapelessCraftingRecipe otherCount = mock(ShapelessCraftingRecipe.class);
+        when(otherCount.getIngredientPredicates()).thenReturn(ImmutableList.of(stick));
+        final CraftingRecipe special = mock(CraftingRecipe.class);
+
+        final CraftingRecipeIndex index = new CraftingRecipeIndex();
+        index.add(special);
+        index.add(otherCount);
+        index.add(shapeless);
+        when(shapeless.isValid(this.grid, this.world)).thenReturn(true);
+
+        place(0, 0, this.stone);
+        place(2, 1, this.stick);
+        assertEquals(Optional.of(shapeless), index.findMatchingRecipe(this.grid, this.world));
+        verify(special).isValid(this.grid, this.world);
+        verify(otherCount, never()).isValid(any(), any());
+    }
+
+    @Test
+    public void testLastMatchDoesNotShadowEarlierRecipe() {
+        final ShapedCraftingRecipe first = shaped(ingredient(this.stick));
+        final ShapedCraftingRecipe second = shaped(ingredient(this.stick));
+        final CraftingRecipeIndex index = new CraftingRecipeIndex();
+        index.add(first);
+        index.add(second);
+        when(second.isValid(this.grid, this.world)).thenReturn(true);
+
+        place(0, 0, this.stick);
+        assertEquals(Optional.of(second), index.findMatchingRecipe(this.grid, this.world));
+
+        when(first.isValid(this.grid, this.world)).thenReturn(true);
+        assertEquals(Optional.of(first), index.findMatchingRecipe(this.grid, this.world));
+        assertEquals(Optional.of(first), index.findMatchingRecipe(this.grid, this.world));
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.CatalogType;
+
+import java.util.Map;
+
+public class CatalogTypeMapTest {
+
+    private final TestCatalogTypeIndex index = new TestCatalogTypeIndex(10);
+
+    @Test
+    public void testPutGetRemove() {
+        final CatalogTypeMap<CatalogType, String> map = CatalogTypeMap.of(this.index);
+        final CatalogType first = this.index.getAll().get(7);
+        final CatalogType second = this.index.getAll().get(2);
+        assertNull(map.put(first, "first"));
+        assertNull(map.put(second, null));
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey(second));
+        assertTrue(map.containsValue(null));
+        assertEquals("first", map.get(first));
+        assertEquals("first", map.getByOrdinal(7));
+        assertEquals("first", map.put(first, "replaced"));
+        assertEquals(ImmutableList.of(second, first), Lists.newArrayList(map.keySet()));
+        assertNull(map.remove(second));
+        assertFalse(map.containsKey(second));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testEntrySet() {
+        final CatalogTypeMap<CatalogType, Integer> map = CatalogTypeMap.of(this.index);
+        for (CatalogType type : this.index.getAll()) {
+            map.put(type, this.index.getOrdinal(type));
+        }
+        for (Map.Entry<CatalogType, Integer> entry : map.entrySet()) {
+            entry.setValue(entry.getValue() * 2);
+        }
+        assertEquals(Integer.valueOf(18), map.get(this.index.getAll().get(9)));
+        map.entrySet().removeIf(entry -> entry.getValue() > 4);
+        assertEquals(3, map.size());
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.CatalogType;
+
+import java.util.Iterator;
+
+public class CatalogTypeSetTest {
+
+    private final TestCatalogTypeIndex index = new TestCatalogTypeIndex(130);
+
+    @Test
+    public void testAddRemove() {
+        final CatalogTypeSet<CatalogType> set = CatalogTypeSet.noneOf(this.index);
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(this.index.getAll().get(129)));
+        assertTrue(set.add(this.index.getAll().get(3)));
+        assertFalse(set.add(this.index.getAll().get(3)));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(this.index.getAll().get(129)));
+        assertTrue(set.containsOrdinal(3));
+        assertFalse(set.contains(this.index.getAll().get(64)));
+        assertFalse(set.contains("test:type3"));
+        assertEquals(ImmutableList.of(this.index.getAll().get(3), this.index.getAll().get(129)), Lists.newArrayList(set));
+        assertTrue(set.remove(this.index.getAll().get(3)));
+        assertFalse(set.remove(this.index.getAll().get(3)));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testAllOf() {
+        final CatalogTypeSet<CatalogType> set = CatalogTypeSet.allOf(this.index);
+        assertEquals(130, set.size());
+        assertEquals(this.index.getAll(), Lists.newArrayList(set));
+
+        final Iterator<CatalogType> it = set.iterator();
+        while (it.hasNext()) {
+            if (this.index.getOrdinal(it.next()) % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(65, set.size());
+        assertFalse(set.containsOrdinal(64));
+        assertTrue(set.containsOrdinal(65));
+    }
+
+    @Test
+    public void testBulkOperations() {
+        final CatalogTypeSet<CatalogType> all = CatalogTypeSet.allOf(this.index);
+        final CatalogTypeSet<CatalogType> some = CatalogTypeSet.noneOf(this.index);
+        some.add(this.index.getAll().get(1));
+        some.add(this.index.getAll().get(100));
+        assertTrue(all.containsAll(some));
+        assertFalse(some.containsAll(all));
+
+        final CatalogTypeSet<CatalogType> copy = all.copy();
+        assertTrue(copy.removeAll(some));
+        assertEquals(128, copy.size());
+        assertTrue(copy.retainAll(some));
+        assertTrue(copy.isEmpty());
+        assertTrue(copy.addAll(some));
+        assertEquals(some, copy);
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.CatalogType;
+
+import java.util.List;
+import java.util.Optional;
+
+final class TestCatalogTypeIndex implements CatalogTypeIndex<CatalogType> {
+
+    private final List<CatalogType> types;
+
+    TestCatalogTypeIndex(int size) {
+        final ImmutableList.Builder<CatalogType> types = ImmutableList.builder();
+        for (int i = 0; i < size; i++) {
+            final CatalogType type = mock(CatalogType.class);
+            when(type.getId()).thenReturn("test:type" + i);
+            types.add(type);
+        }
+        this.types = types.build();
+    }
+
+    @Override
+    public Class<CatalogType> getCatalogClass() {
+        return CatalogType.class;
+    }
+
+    @Override
+    public int size() {
+        return this.types.size();
+    }
+
+    @Override
+    public int getOrdinal(CatalogType type) {
+        return this.types.indexOf(type);
+    }
+
+    @Override
+    public Optional<CatalogType> byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < this.types.size() ? Optional.of(this.types.get(ordinal)) : Optional.empty();
+    }
+
+    @Override
+    public List<CatalogType> getAll() {
+        return this.types;
+    }
+
+}
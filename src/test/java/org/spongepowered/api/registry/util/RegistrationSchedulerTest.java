@@ -0,0 +1,177 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry.util;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.registry.RegistryModule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class RegistrationSchedulerTest {
+
+    private ExecutorService executor;
+    private List<String> registered;
+
+    @Before
+    public void initialize() {
+        this.executor = Executors.newFixedThreadPool(4);
+        this.registered = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @After
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentModulesRunInParallel() {
+        final CountDownLatch latch = new CountDownLatch(2);
+        // Both modules only complete once the other one has started
+        RegistrationScheduler.registerDefaults(ImmutableList.of(new Blocks(latch), new Items(latch), new Recipes()), this.executor);
+        assertThat(this.registered.subList(2, 3), contains("recipes"));
+        assertTrue(this.registered.containsAll(ImmutableList.of("blocks", "items")));
+    }
+
+    @Test(timeout = 10000)
+    public void testSerialModulesKeepOrder() {
+        RegistrationScheduler.registerDefaults(ImmutableList.of(new Serial("a"), new Serial("b"), new Serial("c")), this.executor);
+        assertThat(this.registered, contains("a", "b", "c"));
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentModulesFollowSerialModules() {
+        final Thread caller = Thread.currentThread();
+        final Serial first = new Serial("first") {
+
+            @Override
+            public void registerDefaults() {
+                assertSame(caller, Thread.currentThread());
+                super.registerDefaults();
+            }
+        };
+        RegistrationScheduler.registerDefaults(ImmutableList.of(first, new Recipes(), new Serial("last")), this.executor);
+        assertThat(this.registered, contains("first", "recipes", "last"));
+    }
+
+    @Test
+    public void testCycle() {
+        try {
+            RegistrationScheduler.registerDefaults(ImmutableList.of(new Recipes(), new CycleA(), new CycleB()), this.executor);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertTrue(this.registered.isEmpty());
+    }
+
+    void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @ConcurrentRegistration
+    final class Blocks implements RegistryModule {
+
+        private final CountDownLatch latch;
+
+        Blocks(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void registerDefaults() {
+            await(this.latch);
+            RegistrationSchedulerTest.this.registered.add("blocks");
+        }
+    }
+
+    @ConcurrentRegistration
+    final class Items implements RegistryModule {
+
+        private final CountDownLatch latch;
+
+        Items(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void registerDefaults() {
+            await(this.latch);
+            RegistrationSchedulerTest.this.registered.add("items");
+        }
+    }
+
+    @ConcurrentRegistration
+    @RegistrationDependency({Blocks.class, Items.class})
+    final class Recipes implements RegistryModule {
+
+        @Override
+        public void registerDefaults() {
+            RegistrationSchedulerTest.this.registered.add("recipes");
+        }
+    }
+
+    class Serial implements RegistryModule {
+
+        private final String name;
+
+        Serial(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void registerDefaults() {
+            RegistrationSchedulerTest.this.registered.add(this.name);
+        }
+    }
+
+    @RegistrationDependency(CycleB.class)
+    static final class CycleA implements RegistryModule {
+    }
+
+    @RegistrationDependency(CycleA.class)
+    static final class CycleB implements RegistryModule {
+    }
+
+}
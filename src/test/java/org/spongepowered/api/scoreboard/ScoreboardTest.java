@@ -0,0 +1,82 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.scoreboard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.Test;
+import org.mockito.Answers;
+import org.spongepowered.api.scoreboard.objective.Objective;
+
+import java.util.Optional;
+
+public class ScoreboardTest {
+
+    @Test
+    public void testDefaultUpdate() {
+        final Scoreboard scoreboard = mock(Scoreboard.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        final Objective objective = mock(Objective.class);
+        scoreboard.update(board -> board.addObjective(objective));
+        verify(scoreboard).addObjective(objective);
+    }
+
+    @Test
+    public void testDefaultUpdatePassesOnExceptions() {
+        final Scoreboard scoreboard = mock(Scoreboard.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        final IllegalStateException exception = new IllegalStateException();
+        try {
+            scoreboard.update(board -> {
+                throw exception;
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertSame(exception, e);
+        }
+    }
+
+    @Test
+    public void testDefaultBuilderRejectsParent() {
+        final Scoreboard.Builder builder = mock(Scoreboard.Builder.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        assertSame(builder, builder.parent(null));
+        try {
+            builder.parent(mock(Scoreboard.class));
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDefaultHasNoParent() {
+        final Scoreboard scoreboard = mock(Scoreboard.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        assertEquals(Optional.empty(), scoreboard.getParent());
+    }
+
+}
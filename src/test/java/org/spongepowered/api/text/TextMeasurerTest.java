@@ -0,0 +1,84 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.scoreboard.Score;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.util.test.TestHooks;
+
+public class TextMeasurerTest {
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+        TestHooks.mockFields(TextColors.class, TextColor.class);
+        TestHooks.mockFields(TextStyles.class, TextStyle.class);
+    }
+
+    @Test
+    public void testWidth() {
+        final TextMeasurer measurer = TextMeasurer.getDefault();
+        assertThat(measurer.getWidth("Hi!", false), is(6 + 2 + 2));
+        assertThat(measurer.getWidth("Hi!", true), is(7 + 3 + 3));
+        assertThat(measurer.getWidth(' ', true), is(5));
+        assertThat(measurer.getWidth('\u00e9', false), is(6));
+
+        final TextStyle bold = new TextStyle(true, null, null, null, null);
+        final Text text = Text.builder("Hi").append(Text.builder("!").style(bold).build()).build();
+        assertThat(measurer.getWidth(text), is(6 + 2 + 3));
+        assertThat(measurer.getWidth(text), is(6 + 2 + 3));
+        assertThat(measurer.getWidth(Text.builder().style(bold).append(text).build()), is(7 + 3 + 3));
+    }
+
+    @Test
+    public void testScoreWidthNotCached() {
+        final Score score = mock(Score.class);
+        when(score.getScore()).thenReturn(1);
+        final Text text = Text.of("[", Text.of(score), "]");
+        assertThat(TextMeasurer.getDefault().getWidth(text), is(4 + 6 + 4));
+
+        when(score.getScore()).thenReturn(100);
+        assertThat(TextMeasurer.getDefault().getWidth(text), is(4 + 18 + 4));
+    }
+
+    @Test
+    public void testCenter() {
+        final TextMeasurer measurer = TextMeasurer.getDefault();
+        final Text centered = measurer.center(Text.of("ab"), Text.of("="), 36);
+        assertThat(centered.toPlain(), is("==ab=="));
+        assertThat(measurer.center(Text.of("ab"), Text.of("="), 12).toPlain(), is("ab"));
+    }
+
+}
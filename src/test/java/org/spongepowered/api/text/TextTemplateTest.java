@@ -0,0 +1,72 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.util.test.TestHooks;
+
+public class TextTemplateTest {
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+        TestHooks.mockFields(TextColors.class, TextColor.class);
+        TestHooks.mockFields(TextStyles.class, TextStyle.class);
+    }
+
+    @Test
+    public void testCompiledApplyMatchesApply() {
+        final TextTemplate template = TextTemplate.of("Hello ", TextTemplate.arg("name").color(TextColors.RED), ", you have ",
+                TextTemplate.arg("count").optional().defaultValue(Text.of("no")), " new messages from ", TextTemplate.arg("name"));
+        final TextTemplate.Compiled compiled = template.compile();
+
+        assertThat(compiled.getSlotNames(), contains("name", "count"));
+        assertThat(compiled.getSlot("count"), is(1));
+        assertThat(compiled.apply("Steve", 3), is(template.apply(ImmutableMap.of("name", "Steve", "count", 3)).build()));
+        assertThat(compiled.apply("Steve", null), is(template.apply(ImmutableMap.of("name", "Steve")).build()));
+        assertThat(compiled.apply("Steve", null).toPlain(), is("Hello Steve, you have no new messages from Steve"));
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testCompiledMissingRequiredParameter() {
+        TextTemplate.of(TextTemplate.arg("name")).compile().apply((Object) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCompiledUnknownSlot() {
+        TextTemplate.of(TextTemplate.arg("name")).compile().getSlot("other");
+    }
+
+}
@@ -26,19 +26,32 @@
 
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.spongepowered.api.text.action.TextActions.insertText;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.text.format.TextColor;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.text.serializer.TextSerializer;
+import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.util.test.TestHooks;
 
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 public class TextTest {
 
     @Before
@@ -100,6 +113,74 @@ public void testCompositeText() {
         assertThat(server.getShiftClickAction().get(), is(insertText("Welcome Spongie!")));
     }
 
+    @Test
+    public void testSerializedFormCached() {
+        final TextSerializer serializer = mock(TextSerializer.class);
+        when(serializer.serialize(any())).thenReturn("serialized");
+        final Text text = Text.of(TextColors.RED, "Red");
+        assertThat(text.toSerialized(serializer), is("serialized"));
+        assertThat(text.toSerialized(serializer), is("serialized"));
+        verify(serializer, times(1)).serialize(text);
+    }
+
+    @Test
+    public void testScoreTextNotCached() {
+        final Score score = mock(Score.class);
+        when(score.getScore()).thenReturn(1);
+        final Text text = Text.of("Score: ", Text.of(score));
+        assertThat(text.toPlain(), is("Score: 1"));
+
+        when(score.getScore()).thenReturn(2);
+        assertThat(text.toPlain(), is("Score: 2"));
+    }
+
+    @Test
+    public void testHashCodeCached() {
+        final CountingText text = new CountingText();
+        final int hashCode = text.hashCode();
+        assertThat(text.hashCode(), is(hashCode));
+        assertThat(text.hashCode(), is(hashCode));
+        assertThat(text.computations, is(1));
+    }
+
+    @Test
+    public void testCachedHashCodeEquality() {
+        final Text text = Text.of(TextColors.RED, "Red", Text.of(TextColors.YELLOW, "Yellow"));
+        final Text equal = Text.of(TextColors.RED, "Red", Text.of(TextColors.YELLOW, "Yellow"));
+        assertThat(text.hashCode(), is(equal.hashCode()));
+        assertTrue(text.equals(equal));
+        assertFalse(text.equals(Text.of(TextColors.RED, "Red")));
+    }
+
+    @Test
+    public void testConcatSharesChildren() {
+        final Text base = Text.of(TextColors.RED, "Base");
+        Text text = base;
+        final StringBuilder plain = new StringBuilder("Base");
+        for (int i = 0; i < 10000; i++) {
+            text = text.concat(Text.of(i));
+            plain.append(i);
+        }
+        assertThat(text.getChildren().size(), is(10000));
+        assertThat(text.getChildren().get(9999), is(Text.of(9999)));
+        assertThat(text.getColor(), is(TextColors.RED));
+        assertThat(text.toPlain(), is(plain.toString()));
+        assertThat(base.concat(Text.of("Appended")), is(base.toBuilder().append(Text.of("Appended")).build()));
+    }
+
+    @Test
+    public void testStreamingSerialization() throws Exception {
+        final String content = "Caf\u00e9 \u2603 \ud83d\ude00 \ud83d";
+        final Text text = Text.of(content, TextColors.RED, "!");
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        TextSerializers.PLAIN.serialize(text, buffer);
+        buffer.flip();
+
+        assertThat(buffer, is(ByteBuffer.wrap((content + "!").getBytes(StandardCharsets.UTF_8))));
+        assertThat(TextSerializers.PLAIN.deserialize(buffer).toPlain(), is(content.substring(0, content.length() - 1) + "?!"));
+        assertThat(TextSerializers.PLAIN.deserialize(new StringReader(content)).toPlain(), is(content));
+    }
+
     private static Text findText(Text root, String text) {
         for (Text t : root.withChildren()) {
             if (t instanceof LiteralText && ((LiteralText) t).getContent().contains(text)) {
@@ -111,4 +192,25 @@ private static Text findText(Text root, String text) {
         throw new AssertionError(); // Should never happen
     }
 
+    static final class CountingText extends Text {
+
+        int computations;
+
+        @Override
+        int computeHashCode() {
+            this.computations++;
+            return super.computeHashCode();
+        }
+
+        @Override
+        public Builder toBuilder() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        Text copyWithChildren(TextChildren children) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
 }
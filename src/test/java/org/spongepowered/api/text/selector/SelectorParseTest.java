@@ -0,0 +1,69 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.selector;
+
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.After;
+import org.junit.Test;
+import org.spongepowered.api.GameRegistry;
+import org.spongepowered.api.util.test.TestHooks;
+
+public class SelectorParseTest {
+
+    @After
+    public void reset() throws Exception {
+        TestHooks.setInstance("registry", null);
+    }
+
+    private static SelectorFactory factory(Selector selector) throws Exception {
+        final SelectorFactory factory = mock(SelectorFactory.class);
+        when(factory.parseRawSelector("@a")).thenReturn(selector);
+        final GameRegistry registry = mock(GameRegistry.class);
+        when(registry.getSelectorFactory()).thenReturn(factory);
+        TestHooks.setInstance("registry", registry);
+        return factory;
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testParseIsCachedPerFactory() throws Exception {
+        final Selector first = mock(Selector.class);
+        final SelectorFactory firstFactory = factory(first);
+        assertThat(Selector.parse("@a"), sameInstance(first));
+        assertThat(Selector.parse("@a"), sameInstance(first));
+        verify(firstFactory, times(1)).parseRawSelector("@a");
+
+        final Selector second = mock(Selector.class);
+        factory(second);
+        assertThat(Selector.parse("@a"), sameInstance(second));
+    }
+
+}
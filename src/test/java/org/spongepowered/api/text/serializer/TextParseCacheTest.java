@@ -0,0 +1,104 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.serializer;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.text.Text;
+
+import java.util.concurrent.CountDownLatch;
+
+public class TextParseCacheTest {
+
+    @Test
+    public void testDeserializeIsCached() {
+        final FormattingCodeTextSerializer serializer = mock(FormattingCodeTextSerializer.class);
+        final Text parsed = mock(Text.class);
+        when(serializer.deserialize("&aHello")).thenReturn(parsed);
+        when(serializer.getCharacter()).thenReturn('&');
+
+        final TextParseCache cache = TextParseCache.create(16);
+        final FormattingCodeTextSerializer cached = cache.wrap(serializer);
+        assertThat(cached.deserialize("&aHello"), sameInstance(parsed));
+        assertThat(cached.deserialize("&aHello"), sameInstance(parsed));
+        assertThat(cached.getCharacter(), is('&'));
+
+        verify(serializer, times(1)).deserialize("&aHello");
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+        assertThat(cache.size(), is(1L));
+    }
+
+    @Test
+    public void testParseFailureIsNotCached() {
+        final TextSerializer serializer = mock(TextSerializer.class);
+        when(serializer.deserialize("invalid")).thenThrow(new TextParseException());
+
+        final TextParseCache cache = TextParseCache.create(16);
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.deserialize(serializer, "invalid");
+                fail();
+            } catch (TextParseException e) {
+                // expected
+            }
+        }
+        verify(serializer, times(2)).deserialize("invalid");
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentMissesParseOnce() throws Exception {
+        final TextSerializer serializer = mock(TextSerializer.class);
+        final Text parsed = mock(Text.class);
+        final CountDownLatch parsing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(serializer.deserialize("input")).thenAnswer(invocation -> {
+            parsing.countDown();
+            release.await();
+            return parsed;
+        });
+
+        final TextParseCache cache = TextParseCache.create(16);
+        final Thread first = new Thread(() -> cache.deserialize(serializer, "input"));
+        first.start();
+        parsing.await();
+        final Thread second = new Thread(() -> cache.deserialize(serializer, "input"));
+        second.start();
+        release.countDown();
+        first.join();
+        second.join();
+        verify(serializer, times(1)).deserialize("input");
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+
+public class CompiledFormatTest {
+
+    private static final Object[] ARGS = { "a", 1, null, 2.5 };
+
+    @Test
+    public void testMatchesStringFormat() {
+        final String[] patterns = {
+            "", "plain", "%s and %s", "%2$s %1$s %s", "100%% %s%n", "%2$d items", "%4$.1f", "%-4s|", "%S", "%s %<s", "%s %s %s %s"
+        };
+        for (String pattern : patterns) {
+            assertThat(pattern, CompiledFormat.compile(pattern).format(Locale.GERMANY, ARGS), is(String.format(Locale.GERMANY, pattern, ARGS)));
+        }
+        assertThat(CompiledFormat.compile("%s").format(Locale.ROOT, (Object) null), is("null"));
+    }
+
+    @Test
+    public void testMissingArgument() {
+        try {
+            CompiledFormat.compile("%s %s").format(Locale.ROOT, "a");
+            fail();
+        } catch (MissingFormatArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.util.catalog;
 
+import static org.junit.Assert.assertSame;
+
 import org.junit.Test;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.util.generator.dummy.DummyObjectProvider;
@@ -35,4 +37,10 @@ public void testCreate_BlockType() {
         DummyObjectProvider.createFor(BlockType.class, "FOO").getDefaultState();
     }
 
+    @Test
+    public void testClassReused() {
+        assertSame(DummyObjectProvider.createFor(BlockType.class, "FOO").getClass(),
+                DummyObjectProvider.createFor(BlockType.class, "BAR").getClass());
+    }
+
 }
@@ -0,0 +1,108 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+public class WorldStorageTest {
+
+    private WorldStorage storage;
+
+    @Before
+    public void initialize() {
+        this.storage = mock(WorldStorage.class);
+        when(this.storage.doesChunkExist(any())).thenAnswer(invocation -> {
+            final Vector3i coords = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(coords.getX() == Integer.MAX_VALUE || coords.getZ() == 1);
+        });
+        when(this.storage.doChunksExist(anyCollection())).thenCallRealMethod();
+        when(this.storage.doChunksExist(any(Vector3i.class), any(Vector3i.class))).thenCallRealMethod();
+    }
+
+    @Test
+    public void testRangeIsIndexedXFastest() {
+        final BitSet bits = this.storage.doChunksExist(new Vector3i(-1, 0, 0), new Vector3i(1, 0, 1)).join();
+        final BitSet expected = new BitSet();
+        expected.set(3, 6);
+        assertEquals(expected, bits);
+    }
+
+    @Test
+    public void testRangeAtIntBoundary() {
+        final BitSet bits = this.storage.doChunksExist(new Vector3i(Integer.MAX_VALUE - 1, 0, 0), new Vector3i(Integer.MAX_VALUE, 0, 0)).join();
+        final BitSet expected = new BitSet();
+        expected.set(1);
+        assertEquals(expected, bits);
+    }
+
+    @Test
+    public void testRangeIsWalkedPerRegion() {
+        final Collection<Integer> batchSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            final Vector3i coords = invocation.getArgument(0);
+            // Complete asynchronously, so every batch continues in a callback
+            return CompletableFuture.supplyAsync(() -> coords.getX() == 40 && coords.getZ() == 20);
+        }).when(this.storage).doesChunkExist(any());
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<Collection<?>>getArgument(0).size());
+            return invocation.callRealMethod();
+        }).when(this.storage).doChunksExist(anyCollection());
+
+        final BitSet bits = this.storage.doChunksExist(new Vector3i(-10, 0, 0), new Vector3i(40, 1, 40)).join();
+        final BitSet expected = new BitSet();
+        expected.set(50 + 20 * 51);
+        expected.set(50 + 20 * 51 + 51 * 41);
+        assertEquals(expected, bits);
+        assertEquals(12, batchSizes.size());
+        assertTrue(Collections.max(batchSizes) <= 32 * 32);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvertedRange() {
+        this.storage.doChunksExist(new Vector3i(1, 0, 0), new Vector3i(0, 0, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLargeRange() {
+        this.storage.doChunksExist(new Vector3i(Integer.MIN_VALUE, 0, Integer.MIN_VALUE), new Vector3i(Integer.MAX_VALUE, 0, Integer.MAX_VALUE));
+    }
+
+}